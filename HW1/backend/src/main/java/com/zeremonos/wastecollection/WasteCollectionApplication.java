@@ -2,10 +2,8 @@ package com.zeremonos.wastecollection;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.cache.annotation.EnableCaching;
 
 @SpringBootApplication
-@EnableCaching
 public class WasteCollectionApplication {
 
 	public static void main(String[] args) {
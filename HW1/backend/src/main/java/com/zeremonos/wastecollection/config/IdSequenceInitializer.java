@@ -0,0 +1,62 @@
+package com.zeremonos.wastecollection.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Moves the ID sequences past the rows that are already in the tables.
+ * <p>
+ * Databases created while IDs still came from IDENTITY columns keep those rows, but the
+ * sequences Hibernate creates for them start at 1, so the first inserts would reuse existing
+ * primary keys. Runs before the web server accepts requests and only restarts a sequence that
+ * is behind its table.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdSequenceInitializer implements SmartInitializingSingleton {
+
+    /** Allocation size of the pooled sequence generators on the entities. */
+    static final int ALLOCATION_SIZE = 50;
+
+    private static final List<IdSequence> SEQUENCES = List.of(
+        new IdSequence("service_requests_seq", "service_requests"),
+        new IdSequence("status_history_seq", "status_history"));
+
+    private static final String NEXT_VALUE_SQL =
+        "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        SEQUENCES.forEach(this::align);
+    }
+
+    private void align(IdSequence sequence) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + sequence.table(), Long.class);
+        if (maxId == null) {
+            return;
+        }
+
+        // Hibernate hands out the block below the value it reads, so the whole block must clear MAX(id)
+        long safeNextValue = maxId + ALLOCATION_SIZE + 1;
+        List<Long> nextValue = jdbcTemplate.queryForList(NEXT_VALUE_SQL, Long.class,
+            sequence.name().toUpperCase(Locale.ROOT));
+        if (!nextValue.isEmpty() && nextValue.get(0) >= safeNextValue) {
+            return;
+        }
+
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence.name() + " RESTART WITH " + safeNextValue);
+        log.warn("Restarted {} at {} to clear the existing IDs of {} (max {})",
+            sequence.name(), safeNextValue, sequence.table(), maxId);
+    }
+
+    private record IdSequence(String name, String table) {}
+}
@@ -1,14 +1,20 @@
 package com.zeremonos.wastecollection.controller;
 
+import com.zeremonos.wastecollection.dto.RequestStatusResponse;
 import com.zeremonos.wastecollection.dto.ServiceRequestDTO;
 import com.zeremonos.wastecollection.dto.ServiceRequestResponse;
+import com.zeremonos.wastecollection.service.RequestStatusNotifier;
 import com.zeremonos.wastecollection.service.ServiceRequestService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/requests")
@@ -18,6 +24,7 @@ import org.springframework.web.bind.annotation.*;
 public class CitizenController {
 
     private final ServiceRequestService serviceRequestService;
+    private final RequestStatusNotifier requestStatusNotifier;
 
     @PostMapping
     public ResponseEntity<ServiceRequestResponse> createRequest(
@@ -29,12 +36,50 @@ public class CitizenController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    /**
+     * The ETag is the request version, so a citizen polling an unchanged request gets
+     * 304 Not Modified without the body being sent again. The request is loaded once either way.
+     */
     @GetMapping("/{token}")
-    public ResponseEntity<ServiceRequestResponse> getRequestByToken(@PathVariable String token) {
+    public ResponseEntity<ServiceRequestResponse> getRequestByToken(@PathVariable String token, WebRequest webRequest) {
         log.info("GET /api/requests/{} - Fetching service request", token);
-        
+
         ServiceRequestResponse response = serviceRequestService.getByToken(token);
-        return ResponseEntity.ok(response);
+        String etag = "\"" + (response.getVersion() == null ? 0 : response.getVersion()) + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .eTag(etag)
+            .body(response);
+    }
+
+    /**
+     * Server-Sent Events stream of the request's status: the current status first, then every
+     * committed change, as "status" events whose id is the request version.
+     */
+    @GetMapping("/{token}/events")
+    public SseEmitter streamStatus(@PathVariable String token) {
+        log.info("GET /api/requests/{}/events - Opening status stream", token);
+
+        return requestStatusNotifier.subscribe(serviceRequestService.getStatusByToken(token));
+    }
+
+    /**
+     * Long poll for citizens that cannot keep an event stream open: answers with the status and
+     * version as soon as the version differs from {@code sinceVersion}, or with 304 Not Modified
+     * when nothing changed before the poll times out. No servlet thread is held while waiting.
+     */
+    @GetMapping("/{token}/status")
+    public DeferredResult<ResponseEntity<RequestStatusResponse>> pollStatus(
+            @PathVariable String token,
+            @RequestParam(required = false) Long sinceVersion) {
+        log.info("GET /api/requests/{}/status - Polling status (since version: {})", token, sinceVersion);
+
+        return requestStatusNotifier.awaitChange(serviceRequestService.getStatusByToken(token), sinceVersion,
+            () -> serviceRequestService.getStatusByToken(token));
     }
 
     @DeleteMapping("/{token}")
@@ -1,12 +1,23 @@
 package com.zeremonos.wastecollection.controller;
 
+import com.zeremonos.wastecollection.dto.DateAvailability;
 import com.zeremonos.wastecollection.dto.MunicipalityDTO;
+import com.zeremonos.wastecollection.dto.ParishDTO;
+import com.zeremonos.wastecollection.service.AvailabilityService;
+import com.zeremonos.wastecollection.service.EncodedJson;
 import com.zeremonos.wastecollection.service.MunicipalityService;
+import com.zeremonos.wastecollection.service.ParishService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -17,17 +28,135 @@ import java.util.List;
 public class MunicipalityController {
 
     private final MunicipalityService municipalityService;
+    private final ParishService parishService;
+    private final AvailabilityService availabilityService;
 
+    @Value("${app.municipalities.search.max-results:50}")
+    private int maxSearchResults;
+
+    @Value("${app.municipalities.cache-max-age:1h}")
+    private Duration cacheMaxAge;
+
+    /**
+     * Writes the bytes serialised and compressed when the list was last refreshed: gzip when the
+     * client accepts it, plain JSON otherwise. Each encoding has its own ETag, and Spring
+     * answers a matching If-None-Match with 304 Not Modified.
+     */
     @GetMapping
-    public ResponseEntity<List<MunicipalityDTO>> getAllMunicipalities() {
+    public ResponseEntity<byte[]> getAllMunicipalities(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         log.info("GET /api/municipalities - Fetching all municipalities");
         
         try {
-            List<MunicipalityDTO> municipalities = municipalityService.getAllMunicipalities();
-            return ResponseEntity.ok(municipalities);
+            EncodedJson body = municipalityService.getEncodedMunicipalities();
+            boolean gzip = acceptsGzip(acceptEncoding);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .cacheControl(CacheControl.maxAge(cacheMaxAge).cachePublic())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING);
+            if (body.version() != null) {
+                response.eTag(gzip ? body.version() + "-gzip" : body.version());
+            }
+            if (gzip) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+            }
+            return response.body(body.identity());
         } catch (Exception e) {
             log.error("Error retrieving municipalities: {}", e.getMessage());
             return ResponseEntity.internalServerError().build();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Same list as {@link #getAllMunicipalities()}, but handled asynchronously: on a cold cache
+     * the servlet thread is released while GeoAPI.pt is being queried.
+     */
+    @GetMapping("/async")
+    public Mono<ResponseEntity<List<MunicipalityDTO>>> getAllMunicipalitiesAsync() {
+        log.info("GET /api/municipalities/async - Fetching all municipalities");
+
+        String version = municipalityService.getListVersion();
+        return municipalityService.getAllMunicipalitiesAsync()
+                .map(municipalities -> cacheable(version, municipalities))
+                .onErrorResume(e -> {
+                    log.error("Error retrieving municipalities: {}", e.getMessage());
+                    return Mono.just(ResponseEntity.internalServerError().build());
+                });
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<MunicipalityDTO>> searchMunicipalities(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.info("GET /api/municipalities/search - Searching municipalities for '{}'", query);
+
+        try {
+            return ResponseEntity.ok(municipalityService.searchMunicipalities(query, clampLimit(limit)));
+        } catch (Exception e) {
+            log.error("Error searching municipalities: {}", e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/parishes/search")
+    public ResponseEntity<List<ParishDTO>> searchParishes(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.info("GET /api/municipalities/parishes/search - Searching parishes for '{}'", query);
+
+        try {
+            return ResponseEntity.ok(parishService.searchParishes(query, clampLimit(limit)));
+        } catch (Exception e) {
+            log.error("Error searching parishes: {}", e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Remaining capacity per date and time slot for the next {@code days} days.
+     */
+    @GetMapping("/{name}/availability")
+    public ResponseEntity<List<DateAvailability>> getAvailability(
+            @PathVariable String name,
+            @RequestParam(required = false) Integer days) {
+        log.info("GET /api/municipalities/{}/availability - Fetching availability (days: {})", name, days);
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(availabilityService.getAvailability(name, days));
+    }
+
+    /**
+     * Tag the list with its content version. Spring answers a matching If-None-Match with
+     * 304 Not Modified and skips serialising the body.
+     */
+    private ResponseEntity<List<MunicipalityDTO>> cacheable(String version, List<MunicipalityDTO> municipalities) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(cacheMaxAge).cachePublic());
+        if (version != null) {
+            response.eTag(version);
+        }
+        return response.body(municipalities);
+    }
+
+    /**
+     * Whether the Accept-Encoding header lists gzip (or *) without ruling it out with q=0.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, maxSearchResults));
+    }
+}
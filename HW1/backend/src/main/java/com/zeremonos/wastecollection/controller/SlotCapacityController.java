@@ -0,0 +1,69 @@
+package com.zeremonos.wastecollection.controller;
+
+import com.zeremonos.wastecollection.dto.SlotCapacityDTO;
+import com.zeremonos.wastecollection.dto.UpdateCapacityRequest;
+import com.zeremonos.wastecollection.model.TimeSlot;
+import com.zeremonos.wastecollection.service.SlotCapacityService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/staff/capacities")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class SlotCapacityController {
+
+    private final SlotCapacityService slotCapacityService;
+
+    @GetMapping
+    public ResponseEntity<List<SlotCapacityDTO>> getConfiguredCapacities() {
+        log.info("GET /api/staff/capacities - Fetching configured slot capacities");
+
+        return ResponseEntity.ok(slotCapacityService.getConfiguredCapacities());
+    }
+
+    /**
+     * Capacity of every time slot in the municipality, including the defaults.
+     */
+    @GetMapping("/{municipality}")
+    public ResponseEntity<Map<TimeSlot, Integer>> getCapacities(@PathVariable String municipality) {
+        log.info("GET /api/staff/capacities/{} - Fetching slot capacities", municipality);
+
+        return ResponseEntity.ok(slotCapacityService.getCapacities(municipality));
+    }
+
+    @PutMapping("/{municipality}/{slot}")
+    public ResponseEntity<SlotCapacityDTO> setCapacity(
+            @PathVariable String municipality,
+            @PathVariable TimeSlot slot,
+            @Valid @RequestBody UpdateCapacityRequest request) {
+        log.info("PUT /api/staff/capacities/{}/{} - Setting capacity to {}", municipality, slot, request.getCapacity());
+
+        return ResponseEntity.ok(slotCapacityService.setCapacity(municipality, slot, request.getCapacity()));
+    }
+
+    @DeleteMapping("/{municipality}/{slot}")
+    public ResponseEntity<Void> removeCapacity(@PathVariable String municipality, @PathVariable TimeSlot slot) {
+        log.info("DELETE /api/staff/capacities/{}/{} - Resetting capacity to the default", municipality, slot);
+
+        slotCapacityService.removeCapacity(municipality, slot);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Pick up capacities changed directly in the database without a restart.
+     */
+    @PostMapping("/reload")
+    public ResponseEntity<Map<String, Integer>> reload() {
+        log.info("POST /api/staff/capacities/reload - Reloading slot capacities");
+
+        return ResponseEntity.ok(Map.of("configured", slotCapacityService.reload()));
+    }
+}
@@ -1,14 +1,35 @@
 package com.zeremonos.wastecollection.controller;
 
+import com.zeremonos.wastecollection.dto.BulkStatusUpdateRequest;
+import com.zeremonos.wastecollection.dto.BulkStatusUpdateResponse;
+import com.zeremonos.wastecollection.dto.CursorPage;
+import com.zeremonos.wastecollection.dto.ExportFilter;
+import com.zeremonos.wastecollection.dto.ExportFormat;
+import com.zeremonos.wastecollection.dto.MunicipalityStatusSummary;
+import com.zeremonos.wastecollection.dto.RequestChange;
 import com.zeremonos.wastecollection.dto.ServiceRequestResponse;
+import com.zeremonos.wastecollection.dto.ServiceRequestSummary;
 import com.zeremonos.wastecollection.dto.UpdateStatusRequest;
+import com.zeremonos.wastecollection.model.RequestStatus;
+import com.zeremonos.wastecollection.service.RequestStatusCounters;
+import com.zeremonos.wastecollection.service.ServiceRequestExportService;
 import com.zeremonos.wastecollection.service.ServiceRequestService;
+import com.zeremonos.wastecollection.service.StaffRequestFeed;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -19,17 +40,116 @@ import java.util.List;
 public class StaffController {
 
     private final ServiceRequestService serviceRequestService;
+    private final ServiceRequestExportService serviceRequestExportService;
+    private final StaffRequestFeed staffRequestFeed;
+    private final RequestStatusCounters requestStatusCounters;
+
+    @Value("${app.staff.export.timeout:10m}")
+    private Duration exportTimeout;
 
     @GetMapping
-    public ResponseEntity<List<ServiceRequestResponse>> getAllRequests(
+    public ResponseEntity<List<ServiceRequestSummary>> getAllRequests(
             @RequestParam(required = false) String municipality) {
         log.info("GET /api/staff/requests - Fetching all requests (municipality filter: {})", 
             municipality);
         
-        List<ServiceRequestResponse> requests = serviceRequestService.getAllRequests(municipality);
+        List<ServiceRequestSummary> requests = serviceRequestService.getAllRequests(municipality);
         return ResponseEntity.ok(requests);
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<ServiceRequestSummary>> getRequestsPage(
+            @RequestParam(required = false) String municipality,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        log.info("GET /api/staff/requests/page - Fetching page of requests (municipality filter: {}, size: {})",
+            municipality, size);
+
+        CursorPage<ServiceRequestSummary> page =
+            serviceRequestService.getAllRequests(municipality, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Request counts per municipality and status for the dashboard overview, served from
+     * in-memory counters rather than by loading the requests.
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<List<MunicipalityStatusSummary>> getStatusSummary(
+            @RequestParam(required = false) String municipality) {
+        log.info("GET /api/staff/requests/summary - Fetching status counts (municipality filter: {})", municipality);
+
+        return ResponseEntity.ok(requestStatusCounters.getSummary(municipality));
+    }
+
+    /**
+     * Requests created or changed since the cursor, with cancelled requests as tombstones.
+     * The returned cursor is sent back as {@code since} on the next call. Recent changes are
+     * returned again on later calls, so clients keep the highest version of each request.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<CursorPage<RequestChange>> getChanges(
+            @RequestParam(required = false) String municipality,
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer size) {
+        log.info("GET /api/staff/requests/changes - Fetching changes (municipality filter: {}, size: {})",
+            municipality, size);
+
+        CursorPage<RequestChange> changes = serviceRequestService.getChanges(municipality, since, size);
+        return ResponseEntity.ok(changes);
+    }
+
+    /**
+     * Stream of request creations, transitions and cancellations. Browsers reconnect with the
+     * Last-Event-ID header and receive the deltas they missed.
+     */
+    @GetMapping("/events")
+    public SseEmitter streamChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        log.info("GET /api/staff/requests/events - Opening change stream (resuming after: {})", lastEventId);
+        return staffRequestFeed.subscribe(lastEventId);
+    }
+
+    @PutMapping("/status")
+    public ResponseEntity<BulkStatusUpdateResponse> updateStatuses(
+            @Valid @RequestBody BulkStatusUpdateRequest bulkRequest) {
+        log.info("PUT /api/staff/requests/status - Bulk updating status of {} requests",
+            bulkRequest.getItems().size());
+
+        BulkStatusUpdateResponse response = serviceRequestService.updateStatuses(bulkRequest);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Streams the export on an async request. Large exports outlive the default async timeout,
+     * so the export timeout is applied to this response only.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportRequests(
+            HttpServletRequest request,
+            @RequestParam(required = false) String municipality,
+            @RequestParam(required = false) RequestStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        log.info("GET /api/staff/requests/export - Exporting requests as {} (municipality: {}, status: {}, from: {}, to: {})",
+            format, municipality, status, from, to);
+
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        ExportFilter filter = new ExportFilter(municipality, status, from, to);
+        StreamingResponseBody body = outputStream -> {
+            // Runs once the async request has started, before the default timeout can expire
+            request.getAsyncContext().setTimeout(exportTimeout.toMillis());
+            serviceRequestExportService.exportRequests(filter, exportFormat, outputStream);
+        };
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"service-requests." + exportFormat.getFileExtension() + "\"")
+            .body(body);
+    }
+
     @PutMapping("/{id}/status")
     public ResponseEntity<ServiceRequestResponse> updateStatus(
             @PathVariable Long id,
@@ -0,0 +1,37 @@
+package com.zeremonos.wastecollection.dto;
+
+import com.zeremonos.wastecollection.model.RequestStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateRequest {
+
+    @NotEmpty(message = "At least one item is required")
+    @Valid
+    private List<Item> items;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        @NotNull(message = "Request ID is required")
+        private Long id;
+
+        @NotNull(message = "New status is required")
+        private RequestStatus newStatus;
+
+        @Size(max = 500, message = "Notes must be at most 500 characters")
+        private String notes;
+    }
+}
@@ -0,0 +1,40 @@
+package com.zeremonos.wastecollection.dto;
+
+import com.zeremonos.wastecollection.model.RequestStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk status transition; {@code results} follows the order of the submitted items.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateResponse {
+
+    private int succeeded;
+    private int failed;
+    private List<ItemResult> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private Long id;
+        private boolean success;
+        private RequestStatus previousStatus;
+        private RequestStatus newStatus;
+        private String error;
+
+        public static ItemResult applied(Long id, RequestStatus previousStatus, RequestStatus newStatus) {
+            return new ItemResult(id, true, previousStatus, newStatus, null);
+        }
+
+        public static ItemResult rejected(Long id, RequestStatus newStatus, String error) {
+            return new ItemResult(id, false, null, newStatus, error);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.zeremonos.wastecollection.dto;
+
+import com.zeremonos.wastecollection.model.TimeSlot;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Remaining capacity of a municipality on one collection date, in total and per time slot.
+ */
+public record DateAvailability(LocalDate date, int remaining, Map<TimeSlot, Integer> slots) {
+}
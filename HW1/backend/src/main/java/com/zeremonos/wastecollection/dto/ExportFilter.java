@@ -0,0 +1,22 @@
+package com.zeremonos.wastecollection.dto;
+
+import com.zeremonos.wastecollection.exception.BusinessException;
+import com.zeremonos.wastecollection.model.RequestStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Optional filters of the service request export; {@code null} means "any".
+ * The date range applies to the preferred collection date and is inclusive on both ends.
+ */
+public record ExportFilter(String municipalityName, RequestStatus status, LocalDate fromDate, LocalDate toDate) {
+
+    public ExportFilter {
+        if (municipalityName != null && municipalityName.isBlank()) {
+            municipalityName = null;
+        }
+        if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+            throw new BusinessException("Export start date must not be after the end date");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.zeremonos.wastecollection.dto;
+
+import com.zeremonos.wastecollection.model.RequestStatus;
+
+import java.util.Map;
+
+/**
+ * Request counts of one municipality for the staff overview. Every status is present,
+ * with zero when the municipality has no request in it.
+ */
+public record MunicipalityStatusSummary(String municipalityName, Map<RequestStatus, Long> counts, long total) {
+}
@@ -0,0 +1,14 @@
+package com.zeremonos.wastecollection.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParishDTO {
+
+    private String name;
+    private String municipalityName;
+}
@@ -0,0 +1,27 @@
+package com.zeremonos.wastecollection.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.zeremonos.wastecollection.model.RequestStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entry of the staff change feed. Live requests carry their current list row; cancelled ones
+ * are tombstones that only tell the client which row to drop, and at which version.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RequestChange(
+    Long id,
+    boolean tombstone,
+    RequestStatus status,
+    Long version,
+    LocalDateTime updatedAt,
+    ServiceRequestSummary request
+) {
+
+    public static RequestChange of(ServiceRequestSummary summary) {
+        boolean tombstone = summary.getStatus() == RequestStatus.CANCELLED;
+        return new RequestChange(summary.getId(), tombstone, summary.getStatus(), summary.getVersion(),
+            summary.getUpdatedAt(), tombstone ? null : summary);
+    }
+}
@@ -0,0 +1,8 @@
+package com.zeremonos.wastecollection.dto;
+
+/**
+ * A new service request, published inside the creating transaction and pushed to the staff
+ * event stream once it commits.
+ */
+public record RequestCreatedEvent(ServiceRequestSummary request) {
+}
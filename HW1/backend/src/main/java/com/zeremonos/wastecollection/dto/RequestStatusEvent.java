@@ -0,0 +1,20 @@
+package com.zeremonos.wastecollection.dto;
+
+import com.zeremonos.wastecollection.model.RequestStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Status change of a service request, published inside the changing transaction and pushed
+ * to event stream subscribers once it commits. {@code previousStatus} is null for the
+ * snapshot sent when a stream is opened.
+ */
+public record RequestStatusEvent(
+    Long requestId,
+    String municipalityName,
+    RequestStatus previousStatus,
+    RequestStatus status,
+    Long version,
+    LocalDateTime updatedAt
+) {
+}
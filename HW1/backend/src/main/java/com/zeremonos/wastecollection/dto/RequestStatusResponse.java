@@ -0,0 +1,14 @@
+package com.zeremonos.wastecollection.dto;
+
+import com.zeremonos.wastecollection.model.RequestStatus;
+
+/**
+ * Status and version of a request, the whole payload of the long-polling status endpoint.
+ * The version is passed back as {@code sinceVersion} on the next poll.
+ */
+public record RequestStatusResponse(RequestStatus status, long version) {
+
+    public static RequestStatusResponse from(RequestStatusEvent event) {
+        return new RequestStatusResponse(event.status(), event.version() == null ? 0 : event.version());
+    }
+}
@@ -32,6 +32,7 @@ public class ServiceRequestResponse {
     private RequestStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
     private List<StatusHistoryDTO> statusHistory;
 
     public static ServiceRequestResponse fromEntity(ServiceRequest entity) {
@@ -50,6 +51,7 @@ public class ServiceRequestResponse {
         response.setStatus(entity.getStatus());
         response.setCreatedAt(entity.getCreatedAt());
         response.setUpdatedAt(entity.getUpdatedAt());
+        response.setVersion(entity.getVersion());
         
         if (entity.getStatusHistory() != null) {
             response.setStatusHistory(
@@ -0,0 +1,52 @@
+package com.zeremonos.wastecollection.dto;
+
+import com.zeremonos.wastecollection.model.RequestStatus;
+import com.zeremonos.wastecollection.model.ServiceRequest;
+import com.zeremonos.wastecollection.model.TimeSlot;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Row of the staff request listings.
+ * Loaded directly by a JPQL constructor expression, so it never touches the status history
+ * and carries neither the citizen's contact details nor the access token.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServiceRequestSummary {
+
+    private Long id;
+    private String municipalityCode;
+    private String municipalityName;
+    private String citizenName;
+    private String pickupAddress;
+    private String itemDescription;
+    private LocalDate preferredDate;
+    private TimeSlot preferredTimeSlot;
+    private RequestStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long version;
+
+    public static ServiceRequestSummary fromEntity(ServiceRequest entity) {
+        return new ServiceRequestSummary(
+            entity.getId(),
+            entity.getMunicipalityCode(),
+            entity.getMunicipalityName(),
+            entity.getCitizenName(),
+            entity.getPickupAddress(),
+            entity.getItemDescription(),
+            entity.getPreferredDate(),
+            entity.getPreferredTimeSlot(),
+            entity.getStatus(),
+            entity.getCreatedAt(),
+            entity.getUpdatedAt(),
+            entity.getVersion()
+        );
+    }
+}
@@ -0,0 +1,9 @@
+package com.zeremonos.wastecollection.dto;
+
+import com.zeremonos.wastecollection.model.TimeSlot;
+
+/**
+ * Capacity configured for one time slot of a municipality.
+ */
+public record SlotCapacityDTO(String municipalityName, TimeSlot timeSlot, int capacity) {
+}
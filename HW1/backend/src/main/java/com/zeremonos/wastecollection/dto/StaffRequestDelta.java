@@ -0,0 +1,42 @@
+package com.zeremonos.wastecollection.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.zeremonos.wastecollection.model.RequestStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Change pushed to the staff dashboard stream. Creations carry the new row; transitions and
+ * cancellations only carry what changed, to be applied to the row the dashboard already has.
+ * {@code sequence} grows by one per delta and doubles as the event id clients resume from.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record StaffRequestDelta(
+    long sequence,
+    Type type,
+    Long requestId,
+    String municipalityName,
+    RequestStatus previousStatus,
+    RequestStatus status,
+    Long version,
+    LocalDateTime updatedAt,
+    ServiceRequestSummary request
+) {
+
+    public enum Type {
+        CREATED,
+        TRANSITION,
+        CANCELLED
+    }
+
+    public static StaffRequestDelta created(long sequence, ServiceRequestSummary request) {
+        return new StaffRequestDelta(sequence, Type.CREATED, request.getId(), request.getMunicipalityName(),
+            null, request.getStatus(), request.getVersion(), request.getUpdatedAt(), request);
+    }
+
+    public static StaffRequestDelta changed(long sequence, RequestStatusEvent event) {
+        Type type = event.status() == RequestStatus.CANCELLED ? Type.CANCELLED : Type.TRANSITION;
+        return new StaffRequestDelta(sequence, type, event.requestId(), event.municipalityName(),
+            event.previousStatus(), event.status(), event.version(), event.updatedAt(), null);
+    }
+}
@@ -0,0 +1,9 @@
+package com.zeremonos.wastecollection.dto;
+
+import com.zeremonos.wastecollection.model.RequestStatus;
+
+/**
+ * Number of requests of a municipality in a given status, as returned by a grouped count.
+ */
+public record StatusCount(String municipalityName, RequestStatus status, long count) {
+}
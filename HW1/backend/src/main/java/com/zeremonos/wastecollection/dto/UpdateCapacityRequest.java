@@ -0,0 +1,17 @@
+package com.zeremonos.wastecollection.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpdateCapacityRequest {
+
+    @NotNull(message = "Capacity is required")
+    @Min(value = 0, message = "Capacity cannot be negative")
+    private Integer capacity;
+}
@@ -15,5 +15,15 @@ public class UpdateStatusRequest {
     private RequestStatus newStatus;
 
     private String notes;
+
+    /**
+     * Version of the request the client last saw. When present, the update is only applied
+     * if nobody else changed the request in the meantime.
+     */
+    private Long version;
+
+    public UpdateStatusRequest(RequestStatus newStatus, String notes) {
+        this(newStatus, notes, null);
+    }
 }
 
@@ -0,0 +1,12 @@
+package com.zeremonos.wastecollection.exception;
+
+public class ConcurrentUpdateException extends RuntimeException {
+
+    public ConcurrentUpdateException(String message) {
+        super(message);
+    }
+
+    public ConcurrentUpdateException(String resource, Object id) {
+        super(String.format("%s '%s' was modified by another user. Reload it and try again.", resource, id));
+    }
+}
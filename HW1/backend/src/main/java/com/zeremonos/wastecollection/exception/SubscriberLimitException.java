@@ -0,0 +1,8 @@
+package com.zeremonos.wastecollection.exception;
+
+public class SubscriberLimitException extends RuntimeException {
+
+    public SubscriberLimitException(int limit) {
+        super(String.format("Too many open event streams (limit %d). Try again later.", limit));
+    }
+}
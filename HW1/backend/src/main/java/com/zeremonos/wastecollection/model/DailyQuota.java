@@ -0,0 +1,42 @@
+package com.zeremonos.wastecollection.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Capacity counter for a municipality on a given collection date.
+ * Holds the number of active (non-cancelled, non-completed) requests so the
+ * daily limit can be enforced with a single conditional increment.
+ */
+@Entity
+@Table(name = "daily_quotas",
+       uniqueConstraints = @UniqueConstraint(name = "uk_daily_quota_municipality_date",
+                                             columnNames = {"municipality_name", "quota_date"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyQuota {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String municipalityName;
+
+    @Column(nullable = false)
+    private LocalDate quotaDate;
+
+    @Column(nullable = false)
+    private int reservedCount;
+
+    public DailyQuota(String municipalityName, LocalDate quotaDate, int reservedCount) {
+        this.municipalityName = municipalityName;
+        this.quotaDate = quotaDate;
+        this.reservedCount = reservedCount;
+    }
+}
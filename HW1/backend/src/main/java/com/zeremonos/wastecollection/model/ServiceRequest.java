@@ -5,6 +5,7 @@ import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -15,14 +16,25 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "service_requests")
+@Table(name = "service_requests",
+       indexes = {
+           @Index(name = "idx_service_requests_municipality_date_status",
+                  columnList = "municipality_name, preferred_date, status"),
+           @Index(name = "idx_service_requests_municipality_created",
+                  columnList = "municipality_name, created_at, id"),
+           @Index(name = "idx_service_requests_created", columnList = "created_at, id"),
+           @Index(name = "idx_service_requests_municipality_updated",
+                  columnList = "municipality_name, updated_at, id"),
+           @Index(name = "idx_service_requests_updated", columnList = "updated_at, id")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class ServiceRequest {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "service_requests_seq")
+    @SequenceGenerator(name = "service_requests_seq", sequenceName = "service_requests_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, updatable = false, length = 36)
@@ -81,6 +93,10 @@ public class ServiceRequest {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
     @OneToMany(mappedBy = "serviceRequest", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("timestamp DESC")
     private List<StatusHistory> statusHistory = new ArrayList<>();
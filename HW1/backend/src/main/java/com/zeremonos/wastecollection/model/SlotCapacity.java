@@ -0,0 +1,40 @@
+package com.zeremonos.wastecollection.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of requests the crews of a municipality can take in one time slot of a day.
+ * Slots without a row use the configured default for the slot.
+ */
+@Entity
+@Table(name = "slot_capacities",
+       uniqueConstraints = @UniqueConstraint(name = "uk_slot_capacity_municipality_slot",
+                                             columnNames = {"municipality_name", "time_slot"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotCapacity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String municipalityName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TimeSlot timeSlot;
+
+    @Column(nullable = false)
+    private int capacity;
+
+    public SlotCapacity(String municipalityName, TimeSlot timeSlot, int capacity) {
+        this.municipalityName = municipalityName;
+        this.timeSlot = timeSlot;
+        this.capacity = capacity;
+    }
+}
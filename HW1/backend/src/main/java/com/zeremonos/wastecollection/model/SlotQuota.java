@@ -0,0 +1,47 @@
+package com.zeremonos.wastecollection.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Capacity counter for one time slot of a municipality on a given collection date.
+ * Kept next to the {@link DailyQuota} of the day so the slot capacity can be enforced with the
+ * same single conditional increment.
+ */
+@Entity
+@Table(name = "slot_quotas",
+       uniqueConstraints = @UniqueConstraint(name = "uk_slot_quota_municipality_date_slot",
+                                             columnNames = {"municipality_name", "quota_date", "time_slot"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotQuota {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String municipalityName;
+
+    @Column(nullable = false)
+    private LocalDate quotaDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TimeSlot timeSlot;
+
+    @Column(nullable = false)
+    private int reservedCount;
+
+    public SlotQuota(String municipalityName, LocalDate quotaDate, TimeSlot timeSlot, int reservedCount) {
+        this.municipalityName = municipalityName;
+        this.quotaDate = quotaDate;
+        this.timeSlot = timeSlot;
+        this.reservedCount = reservedCount;
+    }
+}
@@ -9,14 +9,17 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "status_history")
+@Table(name = "status_history",
+       indexes = @Index(name = "idx_status_history_request_timestamp",
+                        columnList = "service_request_id, timestamp"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class StatusHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "status_history_seq")
+    @SequenceGenerator(name = "status_history_seq", sequenceName = "status_history_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,76 @@
+package com.zeremonos.wastecollection.repository;
+
+import com.zeremonos.wastecollection.model.DailyQuota;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DailyQuotaRepository extends JpaRepository<DailyQuota, Long> {
+
+    /**
+     * Find the capacity counter for a municipality on a specific date
+     * @param municipalityName the name of the municipality
+     * @param quotaDate the collection date
+     * @return Optional containing the counter if it was already initialised
+     */
+    Optional<DailyQuota> findByMunicipalityNameAndQuotaDate(String municipalityName, LocalDate quotaDate);
+
+    /**
+     * Find all capacity counters from a specific date onwards
+     * @param quotaDate the first collection date to include
+     * @return List of capacity counters
+     */
+    List<DailyQuota> findByQuotaDateGreaterThanEqual(LocalDate quotaDate);
+
+    /**
+     * Find the capacity counters of a municipality within a date range
+     * @param municipalityName the name of the municipality
+     * @param from the first collection date to include
+     * @param to the last collection date to include
+     * @return List of capacity counters, only for dates that already have one
+     */
+    List<DailyQuota> findByMunicipalityNameAndQuotaDateBetween(String municipalityName, LocalDate from, LocalDate to);
+
+    /**
+     * Check if the capacity counter for a municipality and date exists
+     * @param municipalityName the name of the municipality
+     * @param quotaDate the collection date
+     * @return true if the counter exists, false otherwise
+     */
+    boolean existsByMunicipalityNameAndQuotaDate(String municipalityName, LocalDate quotaDate);
+
+    /**
+     * Atomically reserve one slot if the counter is still below the limit
+     * @param municipalityName the name of the municipality
+     * @param quotaDate the collection date
+     * @param limit the maximum number of active requests allowed
+     * @return 1 if the slot was reserved, 0 if the limit was reached or the counter does not exist
+     */
+    @Modifying
+    @Query("UPDATE DailyQuota q SET q.reservedCount = q.reservedCount + 1 " +
+           "WHERE q.municipalityName = :municipality AND q.quotaDate = :date " +
+           "AND q.reservedCount < :limit")
+    int tryReserve(@Param("municipality") String municipalityName,
+                   @Param("date") LocalDate quotaDate,
+                   @Param("limit") int limit);
+
+    /**
+     * Atomically release one previously reserved slot (never goes below zero)
+     * @param municipalityName the name of the municipality
+     * @param quotaDate the collection date
+     * @return 1 if a slot was released, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE DailyQuota q SET q.reservedCount = q.reservedCount - 1 " +
+           "WHERE q.municipalityName = :municipality AND q.quotaDate = :date " +
+           "AND q.reservedCount > 0")
+    int release(@Param("municipality") String municipalityName,
+                @Param("date") LocalDate quotaDate);
+}
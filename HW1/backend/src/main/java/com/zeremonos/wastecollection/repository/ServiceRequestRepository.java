@@ -1,19 +1,36 @@
 package com.zeremonos.wastecollection.repository;
 
+import com.zeremonos.wastecollection.dto.ServiceRequestSummary;
+import com.zeremonos.wastecollection.dto.StatusCount;
 import com.zeremonos.wastecollection.model.RequestStatus;
 import com.zeremonos.wastecollection.model.ServiceRequest;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ServiceRequestRepository extends JpaRepository<ServiceRequest, Long> {
 
+    String SUMMARY_SELECT = "SELECT new com.zeremonos.wastecollection.dto.ServiceRequestSummary(" +
+        "sr.id, sr.municipalityCode, sr.municipalityName, sr.citizenName, sr.pickupAddress, " +
+        "sr.itemDescription, sr.preferredDate, sr.preferredTimeSlot, sr.status, sr.createdAt, sr.updatedAt, " +
+        "sr.version) " +
+        "FROM ServiceRequest sr ";
+
     /**
      * Find a service request by its unique token
      * @param token the access token
@@ -21,6 +38,44 @@ public interface ServiceRequestRepository extends JpaRepository<ServiceRequest,
      */
     Optional<ServiceRequest> findByToken(String token);
 
+    /**
+     * Find a service request by its token together with its status history, in a single query
+     * @param token the access token
+     * @return Optional containing the service request with its history loaded if found
+     */
+    @EntityGraph(attributePaths = "statusHistory")
+    Optional<ServiceRequest> findWithHistoryByToken(String token);
+
+    /**
+     * Find a service request by its ID together with its status history, in a single query
+     * @param id the request ID
+     * @return Optional containing the service request with its history loaded if found
+     */
+    @EntityGraph(attributePaths = "statusHistory")
+    Optional<ServiceRequest> findWithHistoryById(Long id);
+
+    /**
+     * Change the status of a service request only if it still has the expected status
+     * (and, when given, the expected version). Clears the persistence context afterwards,
+     * so previously loaded instances of the request are detached.
+     * @param id the request ID
+     * @param expectedStatus the status the request must currently have
+     * @param newStatus the status to set
+     * @param expectedVersion the version the request must currently have, or null to skip the check
+     * @param updatedAt the new last-modified timestamp
+     * @return 1 if the status was changed, 0 if the request no longer matches
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ServiceRequest sr " +
+           "SET sr.status = :newStatus, sr.updatedAt = :updatedAt, sr.version = sr.version + 1 " +
+           "WHERE sr.id = :id AND sr.status = :expectedStatus " +
+           "AND (:expectedVersion IS NULL OR sr.version = :expectedVersion)")
+    int compareAndSetStatus(@Param("id") Long id,
+                            @Param("expectedStatus") RequestStatus expectedStatus,
+                            @Param("newStatus") RequestStatus newStatus,
+                            @Param("expectedVersion") Long expectedVersion,
+                            @Param("updatedAt") LocalDateTime updatedAt);
+
     /**
      * Find all service requests for a specific municipality
      * @param municipalityName the name of the municipality
@@ -71,6 +126,143 @@ public interface ServiceRequestRepository extends JpaRepository<ServiceRequest,
      */
     List<ServiceRequest> findByMunicipalityNameOrderByCreatedAtDesc(String municipalityName);
 
+    /**
+     * Find summaries of all service requests ordered by creation date (most recent first)
+     * @return List of service request summaries
+     */
+    @Query(SUMMARY_SELECT + "ORDER BY sr.createdAt DESC, sr.id DESC")
+    List<ServiceRequestSummary> findAllSummaries();
+
+    /**
+     * Find summaries of the service requests of a municipality ordered by creation date
+     * @param municipalityName the name of the municipality
+     * @return List of service request summaries
+     */
+    @Query(SUMMARY_SELECT + "WHERE sr.municipalityName = :municipality ORDER BY sr.createdAt DESC, sr.id DESC")
+    List<ServiceRequestSummary> findSummariesByMunicipalityName(@Param("municipality") String municipalityName);
+
+    /**
+     * Find summaries of the service requests with the given IDs
+     * @param ids the request IDs
+     * @return List of service request summaries, in no particular order
+     */
+    @Query(SUMMARY_SELECT + "WHERE sr.id IN :ids")
+    List<ServiceRequestSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find the first page of service request summaries in keyset order (most recent first)
+     * @param limit the maximum number of requests to return
+     * @return List of service request summaries
+     */
+    @Query(SUMMARY_SELECT + "ORDER BY sr.createdAt DESC, sr.id DESC")
+    List<ServiceRequestSummary> findFirstPage(Limit limit);
+
+    /**
+     * Find the page of service request summaries that follows the given keyset position
+     * @param createdAt the creation date of the last request of the previous page
+     * @param id the ID of the last request of the previous page
+     * @param limit the maximum number of requests to return
+     * @return List of service request summaries
+     */
+    @Query(SUMMARY_SELECT +
+           "WHERE sr.createdAt < :createdAt OR (sr.createdAt = :createdAt AND sr.id < :id) " +
+           "ORDER BY sr.createdAt DESC, sr.id DESC")
+    List<ServiceRequestSummary> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Limit limit);
+
+    /**
+     * Find the first page of service request summaries for a municipality in keyset order
+     * @param municipalityName the name of the municipality
+     * @param limit the maximum number of requests to return
+     * @return List of service request summaries
+     */
+    @Query(SUMMARY_SELECT + "WHERE sr.municipalityName = :municipality " +
+           "ORDER BY sr.createdAt DESC, sr.id DESC")
+    List<ServiceRequestSummary> findFirstPageByMunicipality(@Param("municipality") String municipalityName,
+                                                            Limit limit);
+
+    /**
+     * Find the page of service request summaries for a municipality that follows the given keyset position
+     * @param municipalityName the name of the municipality
+     * @param createdAt the creation date of the last request of the previous page
+     * @param id the ID of the last request of the previous page
+     * @param limit the maximum number of requests to return
+     * @return List of service request summaries
+     */
+    @Query(SUMMARY_SELECT + "WHERE sr.municipalityName = :municipality " +
+           "AND (sr.createdAt < :createdAt OR (sr.createdAt = :createdAt AND sr.id < :id)) " +
+           "ORDER BY sr.createdAt DESC, sr.id DESC")
+    List<ServiceRequestSummary> findPageAfterByMunicipality(@Param("municipality") String municipalityName,
+                                                            @Param("createdAt") LocalDateTime createdAt,
+                                                            @Param("id") Long id,
+                                                            Limit limit);
+
+    /**
+     * Find the service requests created or changed after the given position of the (updatedAt, id)
+     * ordering
+     * @param updatedAt the last-modified timestamp of the last change already seen
+     * @param id the ID of the last change already seen
+     * @param limit the maximum number of requests to return
+     * @return List of service request summaries, oldest change first
+     */
+    @Query(SUMMARY_SELECT +
+           "WHERE (sr.updatedAt > :updatedAt OR (sr.updatedAt = :updatedAt AND sr.id > :id)) " +
+           "ORDER BY sr.updatedAt, sr.id")
+    List<ServiceRequestSummary> findChangesAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                                 @Param("id") Long id,
+                                                 Limit limit);
+
+    /**
+     * Find the service requests of a municipality created or changed after the given position of the
+     * (updatedAt, id) ordering
+     * @param municipalityName the name of the municipality
+     * @param updatedAt the last-modified timestamp of the last change already seen
+     * @param id the ID of the last change already seen
+     * @param limit the maximum number of requests to return
+     * @return List of service request summaries, oldest change first
+     */
+    @Query(SUMMARY_SELECT + "WHERE sr.municipalityName = :municipality " +
+           "AND (sr.updatedAt > :updatedAt OR (sr.updatedAt = :updatedAt AND sr.id > :id)) " +
+           "ORDER BY sr.updatedAt, sr.id")
+    List<ServiceRequestSummary> findChangesAfterByMunicipality(@Param("municipality") String municipalityName,
+                                                               @Param("updatedAt") LocalDateTime updatedAt,
+                                                               @Param("id") Long id,
+                                                               Limit limit);
+
+    /**
+     * Count the service requests of every municipality per status
+     * @return one count per municipality and status that has at least one request
+     */
+    @Query("SELECT new com.zeremonos.wastecollection.dto.StatusCount(sr.municipalityName, sr.status, COUNT(sr)) " +
+           "FROM ServiceRequest sr GROUP BY sr.municipalityName, sr.status")
+    List<StatusCount> countByMunicipalityAndStatus();
+
+    /**
+     * Stream the service requests matching the export filters, in ID order.
+     * Rows are fetched from the JDBC cursor in chunks instead of being loaded all at once,
+     * so the stream must be consumed (and closed) inside a transaction.
+     * @param municipalityName the name of the municipality, or null for all
+     * @param status the request status, or null for all
+     * @param fromDate the first preferred date to include, or null for no lower bound
+     * @param toDate the last preferred date to include, or null for no upper bound
+     * @return Stream of service requests
+     */
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT sr FROM ServiceRequest sr " +
+           "WHERE (:municipality IS NULL OR sr.municipalityName = :municipality) " +
+           "AND (:status IS NULL OR sr.status = :status) " +
+           "AND (:fromDate IS NULL OR sr.preferredDate >= :fromDate) " +
+           "AND (:toDate IS NULL OR sr.preferredDate <= :toDate) " +
+           "ORDER BY sr.id")
+    Stream<ServiceRequest> streamForExport(@Param("municipality") String municipalityName,
+                                           @Param("status") RequestStatus status,
+                                           @Param("fromDate") LocalDate fromDate,
+                                           @Param("toDate") LocalDate toDate);
+
     /**
      * Check if a token already exists
      * @param token the access token
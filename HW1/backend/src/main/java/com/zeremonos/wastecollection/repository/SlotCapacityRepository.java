@@ -0,0 +1,20 @@
+package com.zeremonos.wastecollection.repository;
+
+import com.zeremonos.wastecollection.model.SlotCapacity;
+import com.zeremonos.wastecollection.model.TimeSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SlotCapacityRepository extends JpaRepository<SlotCapacity, Long> {
+
+    /**
+     * Find the capacity configured for one time slot of a municipality
+     * @param municipalityName the name of the municipality
+     * @param timeSlot the time slot
+     * @return Optional containing the capacity if one was configured
+     */
+    Optional<SlotCapacity> findByMunicipalityNameAndTimeSlot(String municipalityName, TimeSlot timeSlot);
+}
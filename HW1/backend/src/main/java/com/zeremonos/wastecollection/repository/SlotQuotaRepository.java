@@ -0,0 +1,67 @@
+package com.zeremonos.wastecollection.repository;
+
+import com.zeremonos.wastecollection.model.SlotQuota;
+import com.zeremonos.wastecollection.model.TimeSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface SlotQuotaRepository extends JpaRepository<SlotQuota, Long> {
+
+    /**
+     * Find the slot counters of a municipality within a date range
+     * @param municipalityName the name of the municipality
+     * @param from the first collection date to include
+     * @param to the last collection date to include
+     * @return List of slot counters, only for slots that already have one
+     */
+    List<SlotQuota> findByMunicipalityNameAndQuotaDateBetween(String municipalityName, LocalDate from, LocalDate to);
+
+    /**
+     * Check if the counter for a time slot of a municipality and date exists
+     * @param municipalityName the name of the municipality
+     * @param quotaDate the collection date
+     * @param timeSlot the time slot
+     * @return true if the counter exists, false otherwise
+     */
+    boolean existsByMunicipalityNameAndQuotaDateAndTimeSlot(String municipalityName, LocalDate quotaDate,
+                                                            TimeSlot timeSlot);
+
+    /**
+     * Atomically reserve one place in the slot if the counter is still below the capacity
+     * @param municipalityName the name of the municipality
+     * @param quotaDate the collection date
+     * @param timeSlot the time slot
+     * @param limit the maximum number of active requests allowed in the slot
+     * @return 1 if the place was reserved, 0 if the capacity was reached or the counter does not exist
+     */
+    @Modifying
+    @Query("UPDATE SlotQuota q SET q.reservedCount = q.reservedCount + 1 " +
+           "WHERE q.municipalityName = :municipality AND q.quotaDate = :date AND q.timeSlot = :slot " +
+           "AND q.reservedCount < :limit")
+    int tryReserve(@Param("municipality") String municipalityName,
+                   @Param("date") LocalDate quotaDate,
+                   @Param("slot") TimeSlot timeSlot,
+                   @Param("limit") int limit);
+
+    /**
+     * Atomically release one previously reserved place in the slot (never goes below zero)
+     * @param municipalityName the name of the municipality
+     * @param quotaDate the collection date
+     * @param timeSlot the time slot
+     * @return 1 if a place was released, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE SlotQuota q SET q.reservedCount = q.reservedCount - 1 " +
+           "WHERE q.municipalityName = :municipality AND q.quotaDate = :date AND q.timeSlot = :slot " +
+           "AND q.reservedCount > 0")
+    int release(@Param("municipality") String municipalityName,
+                @Param("date") LocalDate quotaDate,
+                @Param("slot") TimeSlot timeSlot);
+}
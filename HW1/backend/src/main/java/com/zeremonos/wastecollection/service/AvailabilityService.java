@@ -0,0 +1,106 @@
+package com.zeremonos.wastecollection.service;
+
+import com.zeremonos.wastecollection.dto.DateAvailability;
+import com.zeremonos.wastecollection.exception.BusinessException;
+import com.zeremonos.wastecollection.model.TimeSlot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Remaining collection capacity of a municipality over the coming days, so citizens can pick
+ * a date that still has room instead of finding out when the request is rejected.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AvailabilityService {
+
+    private final DailyQuotaService dailyQuotaService;
+    private final MunicipalityService municipalityService;
+    private final SlotCapacityService slotCapacityService;
+
+    @Value("${app.max-requests-per-municipality-per-day:10}")
+    private int maxRequestsPerMunicipalityPerDay;
+
+    @Value("${app.availability.days.default:30}")
+    private int defaultDays;
+
+    @Value("${app.availability.days.max:90}")
+    private int maxDays;
+
+    /**
+     * Remaining capacity per date, starting tomorrow (the first date a request can ask for).
+     * Built from the daily and slot quota counters with one query each, whatever the number of days.
+     * A counter is only seeded by the next reservation of its date, so requests made before the
+     * counters existed are not in them; when a counter is missing in the range, the active requests
+     * are counted with one more grouped query instead.
+     * @param municipalityName the name of the municipality, matched like on request creation
+     * @param days number of dates to return, or null for the default
+     * @return one entry per date, in date order
+     */
+    public List<DateAvailability> getAvailability(String municipalityName, Integer days) {
+        int count = resolveDays(days);
+        String name = municipalityService.resolveName(municipalityName);
+        LocalDate from = LocalDate.now().plusDays(1);
+        LocalDate to = from.plusDays(count - 1L);
+        log.debug("Computing availability for {} from {} to {}", name, from, to);
+
+        Map<LocalDate, Integer> reserved = dailyQuotaService.getReservedCounts(name, from, to);
+        Map<LocalDate, Map<TimeSlot, Integer>> reservedSlots = dailyQuotaService.getReservedSlotCounts(name, from, to);
+        Map<LocalDate, Map<TimeSlot, Integer>> active = hasMissingCounters(from, to, reserved, reservedSlots)
+            ? dailyQuotaService.countActiveRequests(name, from, to)
+            : Map.of();
+        Map<TimeSlot, Integer> capacities = slotCapacityService.getCapacities(name);
+        List<DateAvailability> availability = new ArrayList<>(count);
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            Map<TimeSlot, Integer> activeSlots = active.getOrDefault(date, Map.of());
+            int dayReserved = reserved.containsKey(date)
+                ? reserved.get(date)
+                : activeSlots.values().stream().mapToInt(Integer::intValue).sum();
+            int dayRemaining = Math.max(0, maxRequestsPerMunicipalityPerDay - dayReserved);
+            Map<TimeSlot, Integer> slotsReserved = reservedSlots.getOrDefault(date, Map.of());
+            // A slot is bounded by its own capacity and by what is left of the day
+            Map<TimeSlot, Integer> slots = new EnumMap<>(TimeSlot.class);
+            int slotsRemaining = 0;
+            for (TimeSlot slot : TimeSlot.values()) {
+                int slotReserved = slotsReserved.containsKey(slot)
+                    ? slotsReserved.get(slot)
+                    : activeSlots.getOrDefault(slot, 0);
+                int slotRemaining = Math.max(0, capacities.get(slot) - slotReserved);
+                slots.put(slot, Math.min(dayRemaining, slotRemaining));
+                slotsRemaining += slotRemaining;
+            }
+            availability.add(new DateAvailability(date, Math.min(dayRemaining, slotsRemaining), slots));
+        }
+        return availability;
+    }
+
+    private static boolean hasMissingCounters(LocalDate from, LocalDate to, Map<LocalDate, Integer> reserved,
+                                              Map<LocalDate, Map<TimeSlot, Integer>> reservedSlots) {
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (!reserved.containsKey(date)
+                    || reservedSlots.getOrDefault(date, Map.of()).size() < TimeSlot.values().length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int resolveDays(Integer days) {
+        if (days == null) {
+            return defaultDays;
+        }
+        if (days < 1) {
+            throw new BusinessException("Days must be at least 1");
+        }
+        return Math.min(days, maxDays);
+    }
+}
@@ -0,0 +1,170 @@
+package com.zeremonos.wastecollection.service;
+
+import com.zeremonos.wastecollection.model.DailyQuota;
+import com.zeremonos.wastecollection.repository.DailyQuotaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process view of the committed {@link DailyQuota} counters.
+ * Lets full days be rejected without a database round trip; the database counter stays
+ * authoritative for every reservation that is actually granted.
+ * <p>
+ * Past days take no more requests, so their counters are dropped once the date has passed.
+ */
+@Component
+@Slf4j
+public class DailyQuotaLedger {
+
+    private final DailyQuotaRepository dailyQuotaRepository;
+    private final long verifyIntervalNanos;
+    private final Map<QuotaKey, Entry> entries = new ConcurrentHashMap<>();
+    private volatile LocalDate evictedBefore = LocalDate.MIN;
+
+    public DailyQuotaLedger(DailyQuotaRepository dailyQuotaRepository,
+                            @Value("${app.quota-ledger.verify-interval:5s}") Duration verifyInterval) {
+        this.dailyQuotaRepository = dailyQuotaRepository;
+        this.verifyIntervalNanos = verifyInterval.toNanos();
+    }
+
+    /**
+     * Load the counters of today and future dates so the first burst after startup is already covered.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<DailyQuota> quotas = dailyQuotaRepository.findByQuotaDateGreaterThanEqual(LocalDate.now());
+        quotas.forEach(quota -> recordCommittedCount(quota.getMunicipalityName(), quota.getQuotaDate(),
+            quota.getReservedCount()));
+        log.info("Daily quota ledger warmed up with {} counters", quotas.size());
+    }
+
+    /**
+     * Check whether the day is known to be full, based on a count verified against the
+     * database within the configured interval.
+     */
+    public boolean isExhausted(String municipalityName, LocalDate date, int limit) {
+        Entry entry = entries.get(new QuotaKey(municipalityName, date));
+        return entry != null
+            && entry.count.get() >= limit
+            && System.nanoTime() - entry.verifiedAt < verifyIntervalNanos;
+    }
+
+    /**
+     * Store the committed count for the given day.
+     */
+    public void recordCommittedCount(String municipalityName, LocalDate date, int count) {
+        LocalDate today = LocalDate.now();
+        if (date.isBefore(today)) {
+            return;
+        }
+        // Entries are only added here, so sweeping here is enough to keep the map bounded
+        evictBefore(today);
+        entries.put(new QuotaKey(municipalityName, date), new Entry(count, System.nanoTime()));
+    }
+
+    /**
+     * Drop the counters of days before the given date. Only sweeps the map once per day.
+     */
+    void evictBefore(LocalDate today) {
+        if (!today.isAfter(evictedBefore)) {
+            return;
+        }
+        evictedBefore = today;
+        int before = entries.size();
+        entries.keySet().removeIf(key -> key.date().isBefore(today));
+        log.debug("Evicted {} past daily quota counters", before - entries.size());
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Forget every counter, so the next check of each day goes to the database again.
+     */
+    void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Store a count read from the database inside the current transaction.
+     * Reservations and releases this transaction has not committed yet are taken out,
+     * so a transaction that later rolls back cannot leave an inflated count behind.
+     */
+    public void recordCountSeenByTransaction(String municipalityName, LocalDate date, int count) {
+        int pendingDelta = currentPendingDeltas().getOrDefault(new QuotaKey(municipalityName, date), 0);
+        recordCommittedCount(municipalityName, date, count - pendingDelta);
+    }
+
+    /**
+     * Apply a reservation (+1) or release (-1) once the current transaction commits.
+     */
+    public void applyAfterCommit(String municipalityName, LocalDate date, int delta) {
+        QuotaKey key = new QuotaKey(municipalityName, date);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(key, delta);
+            return;
+        }
+        if (!TransactionSynchronizationManager.hasResource(this)) {
+            registerPendingDeltas(new HashMap<>());
+        }
+        currentPendingDeltas().merge(key, delta, Integer::sum);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<QuotaKey, Integer> currentPendingDeltas() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return Map.of();
+        }
+        Map<QuotaKey, Integer> pendingDeltas =
+            (Map<QuotaKey, Integer>) TransactionSynchronizationManager.getResource(this);
+        return pendingDeltas != null ? pendingDeltas : Map.of();
+    }
+
+    private void registerPendingDeltas(Map<QuotaKey, Integer> pendingDeltas) {
+        TransactionSynchronizationManager.bindResource(this, pendingDeltas);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pendingDeltas.forEach(DailyQuotaLedger.this::apply);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(DailyQuotaLedger.this);
+            }
+        });
+    }
+
+    private void apply(QuotaKey key, int delta) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.count.addAndGet(delta);
+        }
+    }
+
+    private record QuotaKey(String municipalityName, LocalDate date) {}
+
+    private static final class Entry {
+        private final AtomicInteger count;
+        private final long verifiedAt;
+
+        private Entry(int count, long verifiedAt) {
+            this.count = new AtomicInteger(count);
+            this.verifiedAt = verifiedAt;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.zeremonos.wastecollection.service;
+
+import com.zeremonos.wastecollection.model.DailyQuota;
+import com.zeremonos.wastecollection.model.SlotQuota;
+import com.zeremonos.wastecollection.model.TimeSlot;
+import com.zeremonos.wastecollection.repository.DailyQuotaRepository;
+import com.zeremonos.wastecollection.repository.SlotQuotaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Reserves and releases daily capacity per municipality using the persisted
+ * {@link DailyQuota} counters instead of counting service requests on every create.
+ * The capacity of each time slot is kept the same way in {@link SlotQuota} counters.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DailyQuotaService {
+
+    /**
+     * Seeds a missing counter from the requests that already exist for the key.
+     * Runs through JDBC on the transaction's connection: a duplicate key raised by a concurrent
+     * initialisation does not mark the surrounding JPA transaction as rollback-only.
+     */
+    private static final String INITIALIZE_COUNTER_SQL =
+        "INSERT INTO daily_quotas (municipality_name, quota_date, reserved_count) " +
+        "SELECT ?, ?, COUNT(*) FROM service_requests " +
+        "WHERE municipality_name = ? AND preferred_date = ? AND status NOT IN ('CANCELLED', 'COMPLETED')";
+
+    private static final String INITIALIZE_SLOT_COUNTER_SQL =
+        "INSERT INTO slot_quotas (municipality_name, quota_date, time_slot, reserved_count) " +
+        "SELECT ?, ?, ?, COUNT(*) FROM service_requests " +
+        "WHERE municipality_name = ? AND preferred_date = ? AND preferred_time_slot = ? " +
+        "AND status NOT IN ('CANCELLED', 'COMPLETED')";
+
+    private static final String COUNT_ACTIVE_REQUESTS_SQL =
+        "SELECT preferred_date, preferred_time_slot, COUNT(*) FROM service_requests " +
+        "WHERE municipality_name = ? AND preferred_date BETWEEN ? AND ? " +
+        "AND status NOT IN ('CANCELLED', 'COMPLETED') " +
+        "GROUP BY preferred_date, preferred_time_slot";
+
+    private final DailyQuotaRepository dailyQuotaRepository;
+    private final SlotQuotaRepository slotQuotaRepository;
+    private final DailyQuotaLedger dailyQuotaLedger;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Reserve one slot for the municipality on the given date.
+     * Days the ledger already knows to be full are rejected without touching the database.
+     * The reservation is part of the caller's transaction, so it is undone if the caller rolls back.
+     * @return true if the slot was reserved, false if the limit was already reached
+     */
+    @Transactional
+    public boolean tryReserve(String municipalityName, LocalDate date, int limit) {
+        if (dailyQuotaLedger.isExhausted(municipalityName, date, limit)) {
+            log.debug("Daily quota exhausted for {} on {} (ledger)", municipalityName, date);
+            return false;
+        }
+
+        if (reserve(municipalityName, date, limit)) {
+            dailyQuotaLedger.applyAfterCommit(municipalityName, date, 1);
+            return true;
+        }
+
+        dailyQuotaRepository.findByMunicipalityNameAndQuotaDate(municipalityName, date)
+            .ifPresent(quota -> dailyQuotaLedger.recordCountSeenByTransaction(municipalityName, date,
+                quota.getReservedCount()));
+        log.debug("Daily quota exhausted for {} on {}", municipalityName, date);
+        return false;
+    }
+
+    /**
+     * Release one slot for the municipality on the given date (e.g. after a cancellation or completion).
+     */
+    @Transactional
+    public void release(String municipalityName, LocalDate date) {
+        if (dailyQuotaRepository.release(municipalityName, date) == 1) {
+            dailyQuotaLedger.applyAfterCommit(municipalityName, date, -1);
+        } else {
+            log.debug("No reserved slot to release for {} on {}", municipalityName, date);
+        }
+    }
+
+    /**
+     * Number of reserved slots per date for the municipality, read from the counters in one query.
+     * Dates without a counter have no reservation and are left out.
+     */
+    @Transactional(readOnly = true)
+    public Map<LocalDate, Integer> getReservedCounts(String municipalityName, LocalDate from, LocalDate to) {
+        return dailyQuotaRepository.findByMunicipalityNameAndQuotaDateBetween(municipalityName, from, to).stream()
+            .collect(Collectors.toMap(DailyQuota::getQuotaDate, DailyQuota::getReservedCount));
+    }
+
+    /**
+     * Reserve one place in a time slot of the municipality on the given date, with the same
+     * conditional increment as the daily counter. Part of the caller's transaction.
+     * @return true if the place was reserved, false if the slot capacity was already reached
+     */
+    @Transactional
+    public boolean tryReserveSlot(String municipalityName, LocalDate date, TimeSlot slot, int limit) {
+        if (slotQuotaRepository.tryReserve(municipalityName, date, slot, limit) == 1) {
+            return true;
+        }
+
+        if (!slotQuotaRepository.existsByMunicipalityNameAndQuotaDateAndTimeSlot(municipalityName, date, slot)) {
+            initializeSlotCounter(municipalityName, date, slot);
+            if (slotQuotaRepository.tryReserve(municipalityName, date, slot, limit) == 1) {
+                return true;
+            }
+        }
+        log.debug("Slot {} full for {} on {}", slot, municipalityName, date);
+        return false;
+    }
+
+    /**
+     * Release one place in a time slot of the municipality on the given date.
+     */
+    @Transactional
+    public void releaseSlot(String municipalityName, LocalDate date, TimeSlot slot) {
+        if (slotQuotaRepository.release(municipalityName, date, slot) == 0) {
+            log.debug("No reserved place to release in slot {} for {} on {}", slot, municipalityName, date);
+        }
+    }
+
+    /**
+     * Number of reserved places per date and time slot for the municipality, in one query.
+     * Slots without a counter have no reservation and are left out.
+     */
+    @Transactional(readOnly = true)
+    public Map<LocalDate, Map<TimeSlot, Integer>> getReservedSlotCounts(String municipalityName,
+                                                                       LocalDate from, LocalDate to) {
+        Map<LocalDate, Map<TimeSlot, Integer>> counts = new HashMap<>();
+        for (SlotQuota quota : slotQuotaRepository.findByMunicipalityNameAndQuotaDateBetween(municipalityName, from, to)) {
+            counts.computeIfAbsent(quota.getQuotaDate(), date -> new EnumMap<>(TimeSlot.class))
+                .put(quota.getTimeSlot(), quota.getReservedCount());
+        }
+        return counts;
+    }
+
+    /**
+     * Number of active requests per date and time slot for the municipality, counted from the
+     * requests themselves in one grouped query. Used where a counter has not been seeded yet.
+     * Slots without an active request are left out.
+     */
+    @Transactional(readOnly = true)
+    public Map<LocalDate, Map<TimeSlot, Integer>> countActiveRequests(String municipalityName,
+                                                                     LocalDate from, LocalDate to) {
+        Map<LocalDate, Map<TimeSlot, Integer>> counts = new HashMap<>();
+        jdbcTemplate.query(COUNT_ACTIVE_REQUESTS_SQL, (RowCallbackHandler) row ->
+            counts.computeIfAbsent(row.getObject(1, LocalDate.class), date -> new EnumMap<>(TimeSlot.class))
+                .put(TimeSlot.valueOf(row.getString(2)), row.getInt(3)),
+            municipalityName, from, to);
+        return counts;
+    }
+
+    private boolean reserve(String municipalityName, LocalDate date, int limit) {
+        if (dailyQuotaRepository.tryReserve(municipalityName, date, limit) == 1) {
+            return true;
+        }
+
+        if (dailyQuotaRepository.existsByMunicipalityNameAndQuotaDate(municipalityName, date)) {
+            return false;
+        }
+
+        initializeCounter(municipalityName, date);
+        return dailyQuotaRepository.tryReserve(municipalityName, date, limit) == 1;
+    }
+
+    private void initializeCounter(String municipalityName, LocalDate date) {
+        try {
+            jdbcTemplate.update(INITIALIZE_COUNTER_SQL, municipalityName, date, municipalityName, date);
+            log.debug("Initialised daily quota for {} on {}", municipalityName, date);
+        } catch (DuplicateKeyException e) {
+            log.debug("Daily quota for {} on {} was initialised concurrently", municipalityName, date);
+        }
+    }
+
+    private void initializeSlotCounter(String municipalityName, LocalDate date, TimeSlot slot) {
+        try {
+            jdbcTemplate.update(INITIALIZE_SLOT_COUNTER_SQL, municipalityName, date, slot.name(),
+                municipalityName, date, slot.name());
+            log.debug("Initialised slot {} quota for {} on {}", slot, municipalityName, date);
+        } catch (DuplicateKeyException e) {
+            log.debug("Slot {} quota for {} on {} was initialised concurrently", slot, municipalityName, date);
+        }
+    }
+}
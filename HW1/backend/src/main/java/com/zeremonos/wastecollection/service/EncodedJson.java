@@ -0,0 +1,74 @@
+package com.zeremonos.wastecollection.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A JSON body serialised once, kept both as-is and gzip-compressed, so it can be written to
+ * any number of responses without running Jackson or a compressor again.
+ * <p>
+ * The arrays are shared between responses and must not be modified.
+ */
+public final class EncodedJson {
+
+    public static final EncodedJson EMPTY_ARRAY = new EncodedJson("[]".getBytes(StandardCharsets.UTF_8), null);
+
+    private final byte[] identity;
+    private final byte[] gzip;
+    private final String version;
+
+    private EncodedJson(byte[] identity, String version) {
+        this.identity = identity;
+        this.gzip = compress(identity);
+        this.version = version;
+    }
+
+    /**
+     * Serialise and compress the value.
+     * @param value value to serialise
+     * @param mapper mapper to serialise it with
+     * @param version content version used as entity tag, or null if the content is not versioned
+     * @return the encoded body
+     */
+    public static EncodedJson of(Object value, ObjectMapper mapper, String version) {
+        try {
+            return new EncodedJson(mapper.writeValueAsBytes(value), version);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    public byte[] identity() {
+        return identity;
+    }
+
+    public byte[] gzip() {
+        return gzip;
+    }
+
+    public String version() {
+        return version;
+    }
+
+    private static byte[] compress(byte[] bytes) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        // Compressed once per refresh, so spend the CPU on the smallest output
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,175 @@
+package com.zeremonos.wastecollection.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Writes Server-Sent Events on a small dedicated pool, so the thread that commits a change only
+ * queues its events and never waits on a client connection.
+ * <p>
+ * Each subscriber gets a bounded queue drained by at most one task at a time, which keeps its
+ * events in order. A subscriber whose queue overflows cannot keep up (or its connection is
+ * half-open); it is dropped and its stream completed, and the client reconnects.
+ */
+@Component
+@Slf4j
+public class EventStreamSender implements DisposableBean {
+
+    private final ExecutorService executor;
+
+    public EventStreamSender(@Value("${app.events.sender-threads:4}") int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "sse-sender-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = Executors.newFixedThreadPool(threads, threadFactory);
+    }
+
+    /**
+     * Start queueing events for an emitter.
+     * @param capacity number of events that may wait for the emitter before it is dropped
+     * @param onClose called once when the channel is closed because a send failed or its queue
+     *                overflowed, so the owner can forget the subscriber
+     */
+    public Channel open(SseEmitter emitter, int capacity, Consumer<Channel> onClose) {
+        return new Channel(emitter, capacity, onClose);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queue of events waiting to be written to one emitter.
+     */
+    public final class Channel {
+
+        private final SseEmitter emitter;
+        private final int capacity;
+        private final Consumer<Channel> onClose;
+        private final Deque<SseEmitter.SseEventBuilder> queue = new ArrayDeque<>();
+        private boolean draining;
+        private boolean completeWhenDrained;
+        private boolean closed;
+
+        private Channel(SseEmitter emitter, int capacity, Consumer<Channel> onClose) {
+            this.emitter = emitter;
+            this.capacity = capacity;
+            this.onClose = onClose;
+        }
+
+        /**
+         * Queue an event without blocking.
+         * @return false if the channel is closed, or was just closed because its queue is full
+         */
+        public boolean send(SseEmitter.SseEventBuilder event) {
+            synchronized (this) {
+                if (closed) {
+                    return false;
+                }
+                if (queue.size() < capacity) {
+                    queue.addLast(event);
+                    scheduleDrain();
+                    return true;
+                }
+            }
+            log.debug("Dropping event stream: {} events waiting", capacity);
+            // A send may be stuck on the connection, so complete on the pool rather than here
+            close(true);
+            return false;
+        }
+
+        /**
+         * Complete the stream once the events already queued have been written.
+         */
+        public void complete() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                completeWhenDrained = true;
+                scheduleDrain();
+            }
+        }
+
+        private void scheduleDrain() {
+            if (draining) {
+                return;
+            }
+            draining = true;
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // Shutting down: the container completes the open streams
+                draining = false;
+                closed = true;
+                queue.clear();
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                SseEmitter.SseEventBuilder event;
+                boolean complete = false;
+                synchronized (this) {
+                    event = queue.pollFirst();
+                    if (event == null) {
+                        draining = false;
+                        if (completeWhenDrained && !closed) {
+                            closed = true;
+                            complete = true;
+                        }
+                    }
+                }
+                if (event == null) {
+                    if (complete) {
+                        emitter.complete();
+                    }
+                    return;
+                }
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // The client went away; the container completes the emitter, we only forget it
+                    log.debug("Dropping event stream: {}", e.getMessage());
+                    close(false);
+                    return;
+                }
+            }
+        }
+
+        private void close(boolean completeEmitter) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                queue.clear();
+            }
+            onClose.accept(this);
+            if (completeEmitter) {
+                try {
+                    executor.execute(emitter::complete);
+                } catch (RejectedExecutionException e) {
+                    log.debug("Event stream left to the container: {}", e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.zeremonos.wastecollection.service;
+
+import com.zeremonos.wastecollection.dto.MunicipalityDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Immutable lookup table of the known municipalities, built once per GeoAPI.pt refresh.
+ * <p>
+ * Codes keep the historical format (four letters of the name followed by two digits derived from
+ * its hash), but a code already taken by another municipality moves on to the next free suffix.
+ * Names are assigned in alphabetical order, so the same list always produces the same codes.
+ * The content {@link #version()} changes whenever a name or code does, and serves as the HTTP entity tag.
+ */
+public final class MunicipalityDictionary {
+
+    public static final MunicipalityDictionary EMPTY = new MunicipalityDictionary(List.of(), Map.of(), Map.of(), null);
+
+    private static final int SUFFIXES = 100;
+
+    private final List<MunicipalityDTO> municipalities;
+    private final Map<String, MunicipalityDTO> byCode;
+    private final Map<String, MunicipalityDTO> byName;
+    private final PrefixIndex<MunicipalityDTO> index;
+    private final String version;
+
+    private MunicipalityDictionary(List<MunicipalityDTO> municipalities,
+                                   Map<String, MunicipalityDTO> byCode,
+                                   Map<String, MunicipalityDTO> byName,
+                                   String version) {
+        this.municipalities = municipalities;
+        this.byCode = byCode;
+        this.byName = byName;
+        this.index = new PrefixIndex<>(municipalities, MunicipalityDTO::getName);
+        this.version = version;
+    }
+
+    /**
+     * Build the dictionary for the given municipality names, keeping their original order in {@link #municipalities()}.
+     * @param names municipality names as returned by GeoAPI.pt
+     * @return dictionary with one entry per distinct name
+     */
+    public static MunicipalityDictionary of(Collection<String> names) {
+        Map<String, String> codes = assignCodes(names);
+        Map<String, MunicipalityDTO> byCode = new HashMap<>();
+        Map<String, MunicipalityDTO> byName = new HashMap<>();
+        List<MunicipalityDTO> municipalities = new ArrayList<>(codes.size());
+        for (String name : names) {
+            String key = normalize(name);
+            if (byName.containsKey(key)) {
+                continue;
+            }
+            MunicipalityDTO municipality = new MunicipalityDTO(name, codes.get(name));
+            municipalities.add(municipality);
+            byCode.put(municipality.getCode(), municipality);
+            byName.put(key, municipality);
+        }
+        return new MunicipalityDictionary(Collections.unmodifiableList(municipalities), byCode, byName,
+            contentVersion(municipalities));
+    }
+
+    public List<MunicipalityDTO> municipalities() {
+        return municipalities;
+    }
+
+    public boolean isEmpty() {
+        return municipalities.isEmpty();
+    }
+
+    /**
+     * Digest of the names and codes, in list order; {@code null} for the empty dictionary.
+     */
+    public String version() {
+        return version;
+    }
+
+    /**
+     * Find a municipality by its code.
+     * @param code municipality code, e.g. LISB42
+     * @return the municipality, if known
+     */
+    public Optional<MunicipalityDTO> findByCode(String code) {
+        return code == null ? Optional.empty() : Optional.ofNullable(byCode.get(code.trim().toUpperCase(Locale.ROOT)));
+    }
+
+    /**
+     * Find a municipality by name, ignoring case, accents and surrounding whitespace.
+     * @param name municipality name
+     * @return the municipality, if known
+     */
+    public Optional<MunicipalityDTO> findByName(String name) {
+        return name == null ? Optional.empty() : Optional.ofNullable(byName.get(normalize(name)));
+    }
+
+    /**
+     * Find the municipalities with a word starting with the query, ignoring case and accents.
+     * @param query text typed by the user
+     * @param limit maximum number of results
+     * @return best matches first
+     */
+    public List<MunicipalityDTO> search(String query, int limit) {
+        return index.search(query, limit);
+    }
+
+    /**
+     * Find the canonical municipality for a submitted code/name pair. The name wins when both
+     * are known, since it is what citizens pick and what quotas are kept per.
+     * @param code submitted municipality code
+     * @param name submitted municipality name
+     * @return the canonical municipality, or empty if neither value is known
+     */
+    public Optional<MunicipalityDTO> resolve(String code, String name) {
+        return findByName(name).or(() -> findByCode(code));
+    }
+
+    /**
+     * Lower-case the name and strip accents and surrounding whitespace, so "  Évora" and "evora" match.
+     */
+    static String normalize(String value) {
+        String decomposed = Normalizer.normalize(value.trim(), Normalizer.Form.NFD);
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static String contentVersion(List<MunicipalityDTO> municipalities) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (MunicipalityDTO municipality : municipalities) {
+                digest.update((municipality.getName() + '\t' + municipality.getCode() + '\n')
+                    .getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static Map<String, String> assignCodes(Collection<String> names) {
+        List<String> sorted = names.stream().distinct().sorted().toList();
+        Map<String, String> codes = new HashMap<>();
+        Set<String> taken = new HashSet<>();
+        for (String name : sorted) {
+            String code = firstFreeCode(name, taken);
+            taken.add(code);
+            codes.put(name, code);
+        }
+        return codes;
+    }
+
+    private static String firstFreeCode(String name, Set<String> taken) {
+        String letters = letters(name);
+        if (letters.isEmpty()) {
+            return probe("X", Math.abs(name.hashCode() % 1000), 1000, "%s%03d", taken);
+        }
+        String prefix = letters.substring(0, Math.min(4, letters.length()));
+        return probe(prefix, Math.abs(name.hashCode() % SUFFIXES), SUFFIXES, "%s%02d", taken);
+    }
+
+    private static String probe(String prefix, int start, int size, String format, Set<String> taken) {
+        for (int offset = 0; offset < size; offset++) {
+            String code = String.format(format, prefix, (start + offset) % size);
+            if (!taken.contains(code)) {
+                return code;
+            }
+        }
+        // Every suffix of this prefix is in use: widen the suffix rather than reuse a code
+        return probe(prefix, start, size * 10, "%s%0" + (String.valueOf(size * 10).length() - 1) + "d", taken);
+    }
+
+    /**
+     * Letters of the name in upper case, matching the historical [A-Za-zÀ-ÿ] filter.
+     */
+    private static String letters(String name) {
+        StringBuilder letters = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= 'À' && c <= 'ÿ')) {
+                letters.append(c);
+            }
+        }
+        return letters.toString().toUpperCase(Locale.ROOT);
+    }
+}
@@ -1,74 +1,248 @@
 package com.zeremonos.wastecollection.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.zeremonos.wastecollection.dto.MunicipalityDTO;
+import com.zeremonos.wastecollection.exception.ResourceNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+/**
+ * Serves the municipality list from an in-memory snapshot of the last successful GeoAPI.pt response,
+ * refreshed ahead of time and shared between concurrent callers by a {@link RefreshAheadCache}.
+ * <p>
+ * When a snapshot path is configured, every new list is also written to disk and read back at
+ * startup, so a restarted instance answers without network access and only revalidates the
+ * list with a conditional GET (ETag / Last-Modified) in the background.
+ */
 @Service
 @Slf4j
 public class MunicipalityService {
 
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_REFRESH_AFTER = Duration.ofHours(6);
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
     private final WebClient geoApiWebClient;
-    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private final Duration timeout;
+    private final Path snapshotPath;
+    private final RefreshAheadCache<Snapshot> cache;
+
+    @Value("${app.municipalities.warm-up:true}")
+    private boolean warmUpEnabled;
+
+    public MunicipalityService(WebClient geoApiWebClient) {
+        this(geoApiWebClient, DEFAULT_REFRESH_AFTER, DEFAULT_TIMEOUT);
+    }
+
+    public MunicipalityService(WebClient geoApiWebClient, Duration refreshAfter, Duration timeout) {
+        this(geoApiWebClient, refreshAfter, timeout, null);
+    }
 
-    public MunicipalityService(@Qualifier("geoApiWebClient") WebClient geoApiWebClient) {
+    @Autowired
+    public MunicipalityService(@Qualifier("geoApiWebClient") WebClient geoApiWebClient,
+                               @Value("${app.municipalities.refresh-after:6h}") Duration refreshAfter,
+                               @Value("${app.municipalities.timeout:10s}") Duration timeout,
+                               @Value("${app.municipalities.snapshot-path:}") String snapshotPath) {
         this.geoApiWebClient = geoApiWebClient;
+        this.timeout = timeout;
+        this.snapshotPath = snapshotPath == null || snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+        this.cache = new RefreshAheadCache<>("municipalities", refreshAfter, this::fetchMunicipalities);
+        loadPersistedSnapshot();
+    }
+
+    /**
+     * Fetch (or revalidate the persisted) list in the background at startup, so the first
+     * request is already served from memory. Turned off with {@code app.municipalities.warm-up=false}.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!warmUpEnabled) {
+            return;
+        }
+        cache.refreshInBackground();
     }
 
-    @Cacheable("municipalities")
     public List<MunicipalityDTO> getAllMunicipalities() {
-        log.info("Fetching municipalities from GeoAPI.pt");
-        
-        try {
-            // GeoAPI.pt returns a simple array of strings (municipality names)
-            String[] municipalityNames = geoApiWebClient
-                    .get()
-                    .uri("/municipios")
-                    .retrieve()
-                    .bodyToMono(String[].class)
-                    .timeout(TIMEOUT)
-                    .block();
-
-            if (municipalityNames == null || municipalityNames.length == 0) {
-                log.warn("No municipalities returned from GeoAPI.pt");
-                return Collections.emptyList();
-            }
+        Snapshot current = cache.get();
+        // No snapshot after a successful call means GeoAPI.pt returned an empty list
+        return current == null ? Collections.emptyList() : current.dictionary().municipalities();
+    }
 
-            List<MunicipalityDTO> municipalities = Arrays.stream(municipalityNames)
-                    .map(MunicipalityDTO::new)
-                    .toList();
+    /**
+     * Autocomplete over the cached list: municipalities with a word starting with the query,
+     * ignoring case and accents.
+     */
+    public List<MunicipalityDTO> searchMunicipalities(String query, int limit) {
+        // Makes sure a list is loaded and schedules a refresh when due
+        getAllMunicipalities();
+        return getDictionary().search(query, limit);
+    }
+
+    /**
+     * Non-blocking variant of {@link #getAllMunicipalities()} backed by the same snapshot.
+     * On a cold cache it completes when the shared GeoAPI.pt fetch does, without holding the caller's thread;
+     * cancelling the returned Mono does not cancel that fetch for the other waiters.
+     */
+    public Mono<List<MunicipalityDTO>> getAllMunicipalitiesAsync() {
+        return cache.getAsync()
+                .map(current -> current.dictionary().municipalities())
+                .defaultIfEmpty(Collections.emptyList());
+    }
+
+    /**
+     * Dictionary of the cached list, for validating municipality codes and names without any I/O.
+     * Empty until GeoAPI.pt (or the persisted snapshot) has provided a list.
+     */
+    public MunicipalityDictionary getDictionary() {
+        Snapshot current = cache.peek();
+        return current == null ? MunicipalityDictionary.EMPTY : current.dictionary();
+    }
 
-            log.info("Successfully fetched {} municipalities", municipalities.size());
-            return municipalities;
-            
-        } catch (Exception e) {
-            log.error("Error fetching municipalities from GeoAPI.pt: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to fetch municipalities from external API", e);
+    /**
+     * Canonical name of the municipality, matched ignoring case and accents, as request counters
+     * and settings are kept under it. Until a list has been loaded the given name is used as it is.
+     * @throws ResourceNotFoundException if the loaded list has no such municipality
+     */
+    public String resolveName(String municipalityName) {
+        MunicipalityDictionary dictionary = getDictionary();
+        if (dictionary.isEmpty()) {
+            return municipalityName;
         }
+        return dictionary.findByName(municipalityName)
+            .map(MunicipalityDTO::getName)
+            .orElseThrow(() -> new ResourceNotFoundException("Municipality", "name", municipalityName));
     }
 
-    public Mono<List<MunicipalityDTO>> getAllMunicipalitiesAsync() {
-        log.debug("Fetching municipalities from GeoAPI.pt (async)");
-        
+    /**
+     * The cached list, already serialised and compressed when it was fetched, so serving it
+     * costs no more than copying bytes. Waits for GeoAPI.pt only on a cold cache.
+     */
+    public EncodedJson getEncodedMunicipalities() {
+        Snapshot current = cache.get();
+        return current == null ? EncodedJson.EMPTY_ARRAY : current.body();
+    }
+
+    /**
+     * Version of the cached list, changing whenever its content does; {@code null} while nothing is cached.
+     */
+    public String getListVersion() {
+        return getDictionary().version();
+    }
+
+    /**
+     * Fetch the list, sending the validators of the current snapshot so an unchanged list
+     * comes back as 304 Not Modified without a body.
+     */
+    private Mono<Snapshot> fetchMunicipalities(Snapshot current) {
+        // GeoAPI.pt returns a simple array of strings (municipality names)
         return geoApiWebClient
                 .get()
                 .uri("/municipios")
+                .headers(headers -> {
+                    if (current != null && current.etag() != null) {
+                        headers.setIfNoneMatch(current.etag());
+                    }
+                    if (current != null && current.lastModified() != null) {
+                        headers.set(HttpHeaders.IF_MODIFIED_SINCE, current.lastModified());
+                    }
+                })
                 .retrieve()
-                .bodyToFlux(String.class)
-                .map(MunicipalityDTO::new)
-                .timeout(TIMEOUT)
-                .collectList()
-                .doOnSuccess(list -> log.info("Successfully fetched {} municipalities (async)", list.size()))
-                .doOnError(e -> log.error("Error fetching municipalities (async): {}", e.getMessage()));
+                .toEntity(String[].class)
+                .timeout(timeout)
+                .mapNotNull(response -> toSnapshot(current, response));
     }
-}
 
+    /**
+     * Snapshot to cache for the response: the current one again when it was not modified.
+     * An empty answer is not treated as a good list, so it never replaces one and the next call
+     * tries again.
+     */
+    private Snapshot toSnapshot(Snapshot current, ResponseEntity<String[]> response) {
+        if (current != null && response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            log.debug("Municipalities not modified on GeoAPI.pt, keeping {} cached",
+                    current.dictionary().municipalities().size());
+            return current;
+        }
+
+        String[] names = response.getBody();
+        if (names == null || names.length == 0) {
+            log.warn("No municipalities returned from GeoAPI.pt");
+            return null;
+        }
+
+        MunicipalityDictionary dictionary = MunicipalityDictionary.of(Arrays.asList(names));
+        Snapshot fresh = Snapshot.of(dictionary,
+                response.getHeaders().getETag(), response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED));
+        log.info("Successfully fetched {} municipalities", dictionary.municipalities().size());
+        if (snapshotPath != null) {
+            Schedulers.boundedElastic().schedule(() -> persist(fresh));
+        }
+        return fresh;
+    }
+
+    private void loadPersistedSnapshot() {
+        if (snapshotPath == null || !Files.isReadable(snapshotPath)) {
+            return;
+        }
+        try {
+            PersistedSnapshot persisted = JSON_MAPPER.readValue(snapshotPath.toFile(), PersistedSnapshot.class);
+            if (persisted.names() == null || persisted.names().isEmpty()) {
+                return;
+            }
+            MunicipalityDictionary dictionary = MunicipalityDictionary.of(persisted.names());
+            // Loaded lists are served right away but revalidated on first use
+            cache.preload(Snapshot.of(dictionary, persisted.etag(), persisted.lastModified()));
+            log.info("Loaded {} municipalities from snapshot {}", dictionary.municipalities().size(), snapshotPath);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable municipality snapshot {}: {}", snapshotPath, e.getMessage());
+        }
+    }
+
+    /**
+     * Write through a temporary file so a crash never leaves a truncated snapshot behind.
+     */
+    private void persist(Snapshot fresh) {
+        try {
+            Path directory = snapshotPath.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, "municipalities", ".tmp");
+            List<String> names = fresh.dictionary().municipalities().stream().map(MunicipalityDTO::getName).toList();
+            JSON_MAPPER.writeValue(temporary.toFile(),
+                    new PersistedSnapshot(fresh.etag(), fresh.lastModified(), names));
+            Files.move(temporary, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not write municipality snapshot {}: {}", snapshotPath, e.getMessage());
+        }
+    }
+
+    private record Snapshot(MunicipalityDictionary dictionary, EncodedJson body, String etag, String lastModified) {
+
+        static Snapshot of(MunicipalityDictionary dictionary, String etag, String lastModified) {
+            EncodedJson body = EncodedJson.of(dictionary.municipalities(), JSON_MAPPER, dictionary.version());
+            return new Snapshot(dictionary, body, etag, lastModified);
+        }
+    }
+
+    private record PersistedSnapshot(String etag, String lastModified, List<String> names) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.zeremonos.wastecollection.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.zeremonos.wastecollection.dto.ParishDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Parish (freguesia) autocomplete backed by an in-memory {@link PrefixIndex} of the GeoAPI.pt list.
+ * Refreshed and coalesced by a {@link RefreshAheadCache} like the municipality list; the list is roughly
+ * ten times larger, so it is decoded element by element instead of as one in-memory array.
+ */
+@Service
+@Slf4j
+public class ParishService {
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_REFRESH_AFTER = Duration.ofHours(24);
+
+    private final WebClient geoApiWebClient;
+    private final Duration timeout;
+    private final RefreshAheadCache<PrefixIndex<ParishDTO>> cache;
+
+    @Value("${app.parishes.warm-up:true}")
+    private boolean warmUpEnabled;
+
+    public ParishService(WebClient geoApiWebClient) {
+        this(geoApiWebClient, DEFAULT_REFRESH_AFTER, DEFAULT_TIMEOUT);
+    }
+
+    @Autowired
+    public ParishService(@Qualifier("geoApiWebClient") WebClient geoApiWebClient,
+                         @Value("${app.parishes.refresh-after:24h}") Duration refreshAfter,
+                         @Value("${app.parishes.timeout:30s}") Duration timeout) {
+        this.geoApiWebClient = geoApiWebClient;
+        this.timeout = timeout;
+        this.cache = new RefreshAheadCache<>("parishes", refreshAfter, current -> fetchParishes());
+    }
+
+    /**
+     * Fetch the list in the background at startup so the first search is already served from memory.
+     * Turned off with {@code app.parishes.warm-up=false}.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!warmUpEnabled) {
+            return;
+        }
+        cache.refreshInBackground();
+    }
+
+    /**
+     * Find the parishes with a word starting with the query, ignoring case and accents.
+     * @param query text typed by the user
+     * @param limit maximum number of results
+     * @return best matches first
+     */
+    public List<ParishDTO> searchParishes(String query, int limit) {
+        PrefixIndex<ParishDTO> index = cache.get();
+        // No index after a successful call means GeoAPI.pt returned an empty list
+        return index == null ? List.of() : index.search(query, limit);
+    }
+
+    private Mono<PrefixIndex<ParishDTO>> fetchParishes() {
+        return geoApiWebClient
+                .get()
+                .uri("/freguesias")
+                .retrieve()
+                .bodyToFlux(JsonNode.class)
+                .timeout(timeout)
+                .mapNotNull(ParishService::toParish)
+                .collectList()
+                .mapNotNull(ParishService::toIndex);
+    }
+
+    /**
+     * An empty answer is not treated as a good list, so it never replaces one.
+     */
+    private static PrefixIndex<ParishDTO> toIndex(List<ParishDTO> parishes) {
+        if (parishes.isEmpty()) {
+            log.warn("No parishes returned from GeoAPI.pt");
+            return null;
+        }
+        log.info("Successfully fetched {} parishes", parishes.size());
+        return new PrefixIndex<>(parishes, ParishDTO::getName);
+    }
+
+    /**
+     * Accept both a plain name and an object carrying the parish and its municipality,
+     * skipping anything else rather than failing the whole list.
+     */
+    private static ParishDTO toParish(JsonNode node) {
+        if (node.isTextual()) {
+            return node.asText().isBlank() ? null : new ParishDTO(node.asText(), null);
+        }
+        String name = firstText(node, "freguesia", "nome");
+        return name == null ? null : new ParishDTO(name, firstText(node, "municipio", "concelho"));
+    }
+
+    private static String firstText(JsonNode node, String... fields) {
+        for (String field : fields) {
+            JsonNode value = node.get(field);
+            if (value != null && value.isTextual() && !value.asText().isBlank()) {
+                return value.asText();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,104 @@
+package com.zeremonos.wastecollection.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Immutable, accent-insensitive prefix index over a list of named items.
+ * <p>
+ * Every word start of every name is kept in one sorted array, so a query is a binary search
+ * followed by a scan of the matching range: "gaia" finds "Vila Nova de Gaia" as well as names
+ * starting with it. Matches on the start of the whole name rank before matches on a later word.
+ */
+final class PrefixIndex<T> {
+
+    private static final int NAME_START = 0;
+    private static final int WORD_START = 1;
+
+    private final List<T> items;
+    private final String[] itemKeys;
+    private final String[] keys;
+    private final int[] keyItems;
+    private final int[] keyRanks;
+
+    PrefixIndex(List<T> items, Function<T, String> name) {
+        this.items = List.copyOf(items);
+        this.itemKeys = new String[items.size()];
+
+        List<Entry> entries = new ArrayList<>(items.size() * 2);
+        for (int item = 0; item < items.size(); item++) {
+            String key = MunicipalityDictionary.normalize(name.apply(items.get(item)));
+            itemKeys[item] = key;
+            entries.add(new Entry(key, item, NAME_START));
+            for (int i = 1; i < key.length(); i++) {
+                if (isSeparator(key.charAt(i - 1)) && !isSeparator(key.charAt(i))) {
+                    entries.add(new Entry(key.substring(i), item, WORD_START));
+                }
+            }
+        }
+        entries.sort(Comparator.comparing(Entry::key));
+
+        this.keys = new String[entries.size()];
+        this.keyItems = new int[entries.size()];
+        this.keyRanks = new int[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            keys[i] = entries.get(i).key();
+            keyItems[i] = entries.get(i).item();
+            keyRanks[i] = entries.get(i).rank();
+        }
+    }
+
+    /**
+     * Find the items with a word starting with the query.
+     * @param query text typed by the user, any case and with or without accents
+     * @param limit maximum number of items to return
+     * @return best matches, whole-name matches first, then alphabetically
+     */
+    List<T> search(String query, int limit) {
+        String prefix = query == null ? "" : MunicipalityDictionary.normalize(query);
+        if (prefix.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        int[] bestRank = new int[items.size()];
+        Arrays.fill(bestRank, Integer.MAX_VALUE);
+        List<Integer> matches = new ArrayList<>();
+        for (int i = lowerBound(prefix); i < keys.length && keys[i].startsWith(prefix); i++) {
+            int item = keyItems[i];
+            if (bestRank[item] == Integer.MAX_VALUE) {
+                matches.add(item);
+            }
+            bestRank[item] = Math.min(bestRank[item], keyRanks[i]);
+        }
+
+        return matches.stream()
+                .sorted(Comparator.<Integer>comparingInt(item -> bestRank[item]).thenComparing(item -> itemKeys[item]))
+                .limit(limit)
+                .map(items::get)
+                .toList();
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle].compareTo(prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ' ' || c == '-' || c == '\'' || c == '(';
+    }
+
+    private record Entry(String key, int item, int rank) {
+    }
+}
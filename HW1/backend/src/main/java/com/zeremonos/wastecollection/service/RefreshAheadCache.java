@@ -0,0 +1,138 @@
+package com.zeremonos.wastecollection.service;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * A list fetched from GeoAPI.pt and served from memory, shared by the municipality and parish services.
+ * <p>
+ * Once the value is older than the refresh interval it keeps being served while a single
+ * background fetch replaces it; a failed fetch leaves the last good value in place.
+ * Concurrent callers never start more than one fetch: they all share the one in flight.
+ *
+ * @param <T> the cached value
+ */
+@Slf4j
+final class RefreshAheadCache<T> {
+
+    private final String name;
+    private final long refreshAfterNanos;
+    private final Function<T, Mono<T>> fetcher;
+    private final AtomicReference<Entry<T>> entry = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<T>> inFlight = new AtomicReference<>();
+
+    /**
+     * @param name what is cached, for log and error messages
+     * @param fetcher fetches a new value, given the cached one ({@code null} on a cold cache);
+     *                completing empty keeps the cached value, or leaves a cold cache cold
+     */
+    RefreshAheadCache(String name, Duration refreshAfter, Function<T, Mono<T>> fetcher) {
+        this.name = name;
+        this.refreshAfterNanos = refreshAfter.toNanos();
+        this.fetcher = fetcher;
+    }
+
+    /**
+     * The cached value without any I/O, or {@code null} while nothing is cached.
+     */
+    T peek() {
+        Entry<T> current = entry.get();
+        return current == null ? null : current.value();
+    }
+
+    /**
+     * The cached value, refreshed in the background when due. Waits for GeoAPI.pt only on a cold cache.
+     * @return the value, or {@code null} if GeoAPI.pt returned nothing to cache
+     * @throws RuntimeException if the cache is cold and the fetch fails
+     */
+    T get() {
+        Entry<T> current = entry.get();
+        if (current != null) {
+            refreshIfDue(current);
+            return current.value();
+        }
+
+        // Cold cache (warm-up still running or failed): nothing to serve yet, so wait for GeoAPI.pt
+        log.info("Fetching {} from GeoAPI.pt", name);
+        try {
+            return sharedFetch().join();
+        } catch (Exception e) {
+            log.error("Error fetching {} from GeoAPI.pt: {}", name, e.getMessage(), e);
+            throw new RuntimeException("Failed to fetch " + name + " from external API", e);
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #get()}. On a cold cache it completes when the shared fetch does;
+     * cancelling the returned Mono does not cancel that fetch for the other waiters.
+     */
+    Mono<T> getAsync() {
+        Entry<T> current = entry.get();
+        if (current != null) {
+            refreshIfDue(current);
+            return Mono.just(current.value());
+        }
+
+        log.info("Fetching {} from GeoAPI.pt (async)", name);
+        return Mono.fromFuture(this::sharedFetch, true)
+                .doOnError(e -> log.error("Error fetching {} (async): {}", name, e.getMessage()));
+    }
+
+    /**
+     * Serve a value loaded from elsewhere right away, but revalidate it on first use.
+     */
+    void preload(T value) {
+        entry.set(new Entry<>(value, System.nanoTime() - refreshAfterNanos));
+    }
+
+    void refreshInBackground() {
+        log.debug("Refreshing {} from GeoAPI.pt in the background", name);
+        sharedFetch().exceptionally(e -> {
+            log.warn("Background refresh of {} failed, keeping the cached list: {}", name, e.getMessage());
+            return null;
+        });
+    }
+
+    private void refreshIfDue(Entry<T> current) {
+        if (System.nanoTime() - current.fetchedAt() >= refreshAfterNanos) {
+            refreshInBackground();
+        }
+    }
+
+    /**
+     * Join the fetch already in flight, or start one if there is none.
+     * The slot is cleared after the value is stored and before waiters are completed,
+     * so a caller arriving afterwards sees either the new value or starts a fresh fetch.
+     */
+    private CompletableFuture<T> sharedFetch() {
+        CompletableFuture<T> fetch = new CompletableFuture<>();
+        CompletableFuture<T> existing = inFlight.compareAndExchange(null, fetch);
+        if (existing != null) {
+            return existing;
+        }
+        fetcher.apply(peek()).subscribe(
+                value -> {
+                    entry.set(new Entry<>(value, System.nanoTime()));
+                    inFlight.compareAndSet(fetch, null);
+                    fetch.complete(value);
+                },
+                e -> {
+                    inFlight.compareAndSet(fetch, null);
+                    fetch.completeExceptionally(e);
+                },
+                () -> {
+                    // Nothing to cache (a no-op after a value): the next call tries again
+                    inFlight.compareAndSet(fetch, null);
+                    fetch.complete(null);
+                });
+        return fetch;
+    }
+
+    private record Entry<T>(T value, long fetchedAt) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.zeremonos.wastecollection.service;
+
+import com.zeremonos.wastecollection.dto.MunicipalityStatusSummary;
+import com.zeremonos.wastecollection.dto.RequestCreatedEvent;
+import com.zeremonos.wastecollection.dto.RequestStatusEvent;
+import com.zeremonos.wastecollection.dto.StatusCount;
+import com.zeremonos.wastecollection.model.RequestStatus;
+import com.zeremonos.wastecollection.repository.ServiceRequestRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Number of requests per municipality and status, kept in memory for the staff overview.
+ * <p>
+ * Loaded with one grouped count before the application starts serving requests, then moved
+ * by the committed creations and status changes, so reading it never touches the requests table
+ * and rolled-back changes are never counted.
+ */
+@Component
+@Slf4j
+public class RequestStatusCounters implements SmartInitializingSingleton {
+
+    private static final RequestStatus[] STATUSES = RequestStatus.values();
+
+    private final ServiceRequestRepository serviceRequestRepository;
+    private final Map<String, AtomicLongArray> counters = new ConcurrentHashMap<>();
+
+    public RequestStatusCounters(ServiceRequestRepository serviceRequestRepository) {
+        this.serviceRequestRepository = serviceRequestRepository;
+    }
+
+    /**
+     * Load the counts once every bean is ready, before the web server accepts requests,
+     * so no change can slip in between the grouped count and the first event.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<StatusCount> counts = serviceRequestRepository.countByMunicipalityAndStatus();
+        counts.forEach(count -> add(count.municipalityName(), count.status(), count.count()));
+        log.info("Request status counters loaded for {} municipalities", counters.size());
+    }
+
+    @TransactionalEventListener
+    public void onRequestCreated(RequestCreatedEvent event) {
+        add(event.request().getMunicipalityName(), event.request().getStatus(), 1);
+    }
+
+    @TransactionalEventListener
+    public void onStatusChanged(RequestStatusEvent event) {
+        if (event.previousStatus() != null) {
+            add(event.municipalityName(), event.previousStatus(), -1);
+        }
+        add(event.municipalityName(), event.status(), 1);
+    }
+
+    /**
+     * Counts of every municipality with requests, or of a single one.
+     * @param municipalityName the name of the municipality, or null for all
+     * @return one summary per municipality, by name
+     */
+    public List<MunicipalityStatusSummary> getSummary(String municipalityName) {
+        if (municipalityName != null && !municipalityName.isBlank()) {
+            AtomicLongArray counts = counters.get(municipalityName);
+            return List.of(toSummary(municipalityName, counts != null ? counts : new AtomicLongArray(STATUSES.length)));
+        }
+        return counters.entrySet().stream()
+            .map(entry -> toSummary(entry.getKey(), entry.getValue()))
+            .sorted(Comparator.comparing(MunicipalityStatusSummary::municipalityName))
+            .toList();
+    }
+
+    private void add(String municipalityName, RequestStatus status, long delta) {
+        counters.computeIfAbsent(municipalityName, name -> new AtomicLongArray(STATUSES.length))
+            .addAndGet(status.ordinal(), delta);
+    }
+
+    private static MunicipalityStatusSummary toSummary(String municipalityName, AtomicLongArray counts) {
+        Map<RequestStatus, Long> byStatus = new EnumMap<>(RequestStatus.class);
+        long total = 0;
+        for (RequestStatus status : STATUSES) {
+            long count = counts.get(status.ordinal());
+            byStatus.put(status, count);
+            total += count;
+        }
+        return new MunicipalityStatusSummary(municipalityName, byStatus, total);
+    }
+}
@@ -0,0 +1,191 @@
+package com.zeremonos.wastecollection.service;
+
+import com.zeremonos.wastecollection.dto.RequestStatusEvent;
+import com.zeremonos.wastecollection.dto.RequestStatusResponse;
+import com.zeremonos.wastecollection.exception.SubscriberLimitException;
+import com.zeremonos.wastecollection.model.RequestStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * In-process registry of citizens following a single request, either over Server-Sent Events
+ * or as a parked long poll. Status changes are pushed once their transaction commits, so
+ * subscribers never see a change that is later rolled back. Streams and parked polls count
+ * against one cap, since each holds an async request open.
+ * <p>
+ * Stream events are only queued here and written by the {@link EventStreamSender}, so a stalled
+ * citizen connection never delays the staff update that triggered the event.
+ */
+@Component
+public class RequestStatusNotifier {
+
+    static final String EVENT_NAME = "status";
+
+    private static final Duration DEFAULT_POLL_TIMEOUT = Duration.ofSeconds(30);
+    private static final int DEFAULT_QUEUE_SIZE = 32;
+
+    private final EventStreamSender sender;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final long pollTimeoutMillis;
+    private final int queueSize;
+    private final Map<Long, Set<EventStreamSender.Channel>> subscribers = new ConcurrentHashMap<>();
+    private final Map<Long, Set<DeferredResult<ResponseEntity<RequestStatusResponse>>>> waiters =
+        new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    public RequestStatusNotifier(EventStreamSender sender, int maxSubscribers, Duration timeout) {
+        this(sender, maxSubscribers, timeout, DEFAULT_POLL_TIMEOUT, DEFAULT_QUEUE_SIZE);
+    }
+
+    @Autowired
+    public RequestStatusNotifier(EventStreamSender sender,
+                                 @Value("${app.events.max-subscribers:1000}") int maxSubscribers,
+                                 @Value("${app.events.subscriber-timeout:30m}") Duration timeout,
+                                 @Value("${app.events.long-poll-timeout:30s}") Duration pollTimeout,
+                                 @Value("${app.events.send-queue-size:32}") int queueSize) {
+        this.sender = sender;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+        this.pollTimeoutMillis = pollTimeout.toMillis();
+        this.queueSize = queueSize;
+    }
+
+    /**
+     * Open a stream for the request and send its current status right away, so the subscriber
+     * does not miss a change made between its last read and the subscription.
+     * @throws SubscriberLimitException if the maximum number of open streams is reached
+     */
+    public SseEmitter subscribe(RequestStatusEvent current) {
+        reserveSlot();
+
+        Long requestId = current.requestId();
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        EventStreamSender.Channel channel = sender.open(emitter, queueSize, closed -> unsubscribe(requestId, closed));
+        subscribers.computeIfAbsent(requestId, id -> ConcurrentHashMap.newKeySet()).add(channel);
+        emitter.onCompletion(() -> unsubscribe(requestId, channel));
+        emitter.onTimeout(() -> unsubscribe(requestId, channel));
+        emitter.onError(e -> unsubscribe(requestId, channel));
+
+        send(channel, current);
+        return emitter;
+    }
+
+    /**
+     * Wait for the request to move past the version the client already has, without holding a
+     * servlet thread. Answers right away when it already has, otherwise with the next committed
+     * change, or with 304 Not Modified once the poll times out.
+     * @param current status of the request when the poll arrived
+     * @param sinceVersion version the client already has, or null to get the current status
+     * @param latest reads the status again once the poll is parked, to catch a change committed
+     *               between the first read and the registration
+     * @throws SubscriberLimitException if the maximum number of open streams is reached
+     */
+    public DeferredResult<ResponseEntity<RequestStatusResponse>> awaitChange(
+            RequestStatusEvent current, Long sinceVersion, Supplier<RequestStatusEvent> latest) {
+        DeferredResult<ResponseEntity<RequestStatusResponse>> result =
+            new DeferredResult<>(pollTimeoutMillis, ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+        if (isNewer(current, sinceVersion)) {
+            result.setResult(statusResponse(current));
+            return result;
+        }
+
+        reserveSlot();
+        Long requestId = current.requestId();
+        waiters.computeIfAbsent(requestId, id -> ConcurrentHashMap.newKeySet()).add(result);
+        result.onCompletion(() -> {
+            if (remove(waiters, requestId, result)) {
+                subscriberCount.decrementAndGet();
+            }
+        });
+
+        RequestStatusEvent recheck = latest.get();
+        if (isNewer(recheck, sinceVersion)) {
+            result.setResult(statusResponse(recheck));
+        }
+        return result;
+    }
+
+    /**
+     * Answer the request's parked polls and queue the committed status change for its streams.
+     * Streams are closed once the request is completed, since no further change can follow.
+     */
+    @TransactionalEventListener
+    public void onStatusChanged(RequestStatusEvent event) {
+        Set<DeferredResult<ResponseEntity<RequestStatusResponse>>> polls = waiters.get(event.requestId());
+        if (polls != null) {
+            for (DeferredResult<ResponseEntity<RequestStatusResponse>> poll : polls) {
+                poll.setResult(statusResponse(event));
+            }
+        }
+
+        Set<EventStreamSender.Channel> channels = subscribers.get(event.requestId());
+        if (channels == null) {
+            return;
+        }
+        for (EventStreamSender.Channel channel : channels) {
+            send(channel, event);
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void reserveSlot() {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new SubscriberLimitException(maxSubscribers);
+        }
+    }
+
+    private static boolean isNewer(RequestStatusEvent status, Long sinceVersion) {
+        return sinceVersion == null || RequestStatusResponse.from(status).version() != sinceVersion;
+    }
+
+    private static ResponseEntity<RequestStatusResponse> statusResponse(RequestStatusEvent event) {
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noStore())
+            .body(RequestStatusResponse.from(event));
+    }
+
+    private static void send(EventStreamSender.Channel channel, RequestStatusEvent event) {
+        boolean queued = channel.send(SseEmitter.event()
+            .name(EVENT_NAME)
+            .id(String.valueOf(event.version()))
+            .data(event, MediaType.APPLICATION_JSON));
+        if (queued && event.status() == RequestStatus.COMPLETED) {
+            channel.complete();
+        }
+    }
+
+    private void unsubscribe(Long requestId, EventStreamSender.Channel channel) {
+        if (remove(subscribers, requestId, channel)) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    private static <T> boolean remove(Map<Long, Set<T>> registry, Long requestId, T subscriber) {
+        boolean[] removed = new boolean[1];
+        registry.computeIfPresent(requestId, (id, entries) -> {
+            removed[0] = entries.remove(subscriber);
+            return entries.isEmpty() ? null : entries;
+        });
+        return removed[0];
+    }
+}
@@ -0,0 +1,98 @@
+package com.zeremonos.wastecollection.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zeremonos.wastecollection.dto.ExportFilter;
+import com.zeremonos.wastecollection.dto.ExportFormat;
+import com.zeremonos.wastecollection.dto.ServiceRequestSummary;
+import com.zeremonos.wastecollection.model.ServiceRequest;
+import com.zeremonos.wastecollection.repository.ServiceRequestRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes service requests to an output stream row by row, so memory use does not depend
+ * on how many requests match the export filters.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ServiceRequestExportService {
+
+    private static final String CSV_HEADER = "id,municipalityCode,municipalityName,citizenName,pickupAddress," +
+        "itemDescription,preferredDate,preferredTimeSlot,status,createdAt,updatedAt";
+
+    private final ServiceRequestRepository serviceRequestRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public long exportRequests(ExportFilter filter, ExportFormat format, OutputStream outputStream)
+            throws IOException {
+        log.info("Exporting service requests as {} with filter {}", format, filter);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long exported = 0;
+        try (Stream<ServiceRequest> requests = serviceRequestRepository.streamForExport(
+                filter.municipalityName(), filter.status(), filter.fromDate(), filter.toDate())) {
+            Iterator<ServiceRequest> iterator = requests.iterator();
+            while (iterator.hasNext()) {
+                ServiceRequest request = iterator.next();
+                ServiceRequestSummary row = ServiceRequestSummary.fromEntity(request);
+                // Keep the persistence context from growing with every streamed row
+                entityManager.detach(request);
+
+                writer.write(format == ExportFormat.CSV ? toCsvLine(row) : objectMapper.writeValueAsString(row));
+                writer.write('\n');
+                exported++;
+            }
+        }
+        writer.flush();
+
+        log.info("Exported {} service requests as {}", exported, format);
+        return exported;
+    }
+
+    private String toCsvLine(ServiceRequestSummary row) {
+        return String.join(",",
+            csvValue(row.getId()),
+            csvValue(row.getMunicipalityCode()),
+            csvValue(row.getMunicipalityName()),
+            csvValue(row.getCitizenName()),
+            csvValue(row.getPickupAddress()),
+            csvValue(row.getItemDescription()),
+            csvValue(row.getPreferredDate()),
+            csvValue(row.getPreferredTimeSlot()),
+            csvValue(row.getStatus()),
+            csvValue(row.getCreatedAt()),
+            csvValue(row.getUpdatedAt())
+        );
+    }
+
+    private String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
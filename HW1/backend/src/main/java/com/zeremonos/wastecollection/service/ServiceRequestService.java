@@ -1,25 +1,45 @@
 package com.zeremonos.wastecollection.service;
 
+import com.zeremonos.wastecollection.dto.BulkStatusUpdateRequest;
+import com.zeremonos.wastecollection.dto.BulkStatusUpdateResponse;
+import com.zeremonos.wastecollection.dto.CursorPage;
+import com.zeremonos.wastecollection.dto.MunicipalityDTO;
+import com.zeremonos.wastecollection.dto.RequestChange;
+import com.zeremonos.wastecollection.dto.RequestCreatedEvent;
+import com.zeremonos.wastecollection.dto.RequestCursor;
+import com.zeremonos.wastecollection.dto.RequestStatusEvent;
 import com.zeremonos.wastecollection.dto.ServiceRequestDTO;
 import com.zeremonos.wastecollection.dto.ServiceRequestResponse;
+import com.zeremonos.wastecollection.dto.ServiceRequestSummary;
 import com.zeremonos.wastecollection.dto.UpdateStatusRequest;
 import com.zeremonos.wastecollection.exception.BusinessException;
+import com.zeremonos.wastecollection.exception.ConcurrentUpdateException;
 import com.zeremonos.wastecollection.exception.ResourceNotFoundException;
 import com.zeremonos.wastecollection.model.RequestStatus;
 import com.zeremonos.wastecollection.model.ServiceRequest;
 import com.zeremonos.wastecollection.model.StatusHistory;
+import com.zeremonos.wastecollection.model.TimeSlot;
 import com.zeremonos.wastecollection.repository.ServiceRequestRepository;
 import com.zeremonos.wastecollection.repository.StatusHistoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,10 +49,37 @@ public class ServiceRequestService {
 
     private final ServiceRequestRepository serviceRequestRepository;
     private final StatusHistoryRepository statusHistoryRepository;
+    private final DailyQuotaService dailyQuotaService;
+    private final JdbcTemplate jdbcTemplate;
+    private final MunicipalityService municipalityService;
+    private final SlotCapacityService slotCapacityService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final String COMPARE_AND_SET_STATUS_SQL =
+        "UPDATE service_requests SET status = ?, updated_at = ?, version = version + 1 " +
+        "WHERE id = ? AND status = ?";
+
+    /** Cursor before every change, used when a client syncs for the first time. */
+    private static final RequestCursor CHANGES_START = new RequestCursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
 
     @Value("${app.max-requests-per-municipality-per-day:10}")
     private int maxRequestsPerMunicipalityPerDay;
 
+    @Value("${app.staff.page-size.default:50}")
+    private int defaultPageSize;
+
+    @Value("${app.staff.page-size.max:200}")
+    private int maxPageSize;
+
+    @Value("${app.staff.changes.overlap:1m}")
+    private Duration changesOverlap;
+
+    @Value("${app.staff.bulk-update.max-items:500}")
+    private int maxBulkItems;
+
+    @Value("${app.staff.bulk-update.batch-size:50}")
+    private int bulkBatchSize;
+
     @Transactional
     public ServiceRequestResponse createServiceRequest(ServiceRequestDTO dto) {
         log.info("Creating service request for municipality: {}", dto.getMunicipalityName());
@@ -41,23 +88,13 @@ public class ServiceRequestService {
             throw new BusinessException("Preferred date cannot be in the past");
         }
 
-        long activeRequests = serviceRequestRepository
-            .countActiveRequestsByMunicipalityAndDate(
-                dto.getMunicipalityName(),
-                dto.getPreferredDate()
-            );
-
-        if (activeRequests >= maxRequestsPerMunicipalityPerDay) {
-            throw new BusinessException(
-                String.format("Daily limit reached for municipality %s on %s. Maximum %d requests allowed per day.",
-                    dto.getMunicipalityName(), dto.getPreferredDate(), maxRequestsPerMunicipalityPerDay)
-            );
-        }
+        MunicipalityDTO municipality = resolveMunicipality(dto);
+        reserveCapacity(municipality.getName(), dto.getPreferredDate(), dto.getPreferredTimeSlot());
 
         ServiceRequest request = new ServiceRequest();
         request.setToken(UUID.randomUUID().toString());
-        request.setMunicipalityCode(dto.getMunicipalityCode());
-        request.setMunicipalityName(dto.getMunicipalityName());
+        request.setMunicipalityCode(municipality.getCode());
+        request.setMunicipalityName(municipality.getName());
         request.setCitizenName(dto.getCitizenName());
         request.setCitizenEmail(dto.getCitizenEmail());
         request.setCitizenPhone(dto.getCitizenPhone());
@@ -70,6 +107,10 @@ public class ServiceRequestService {
         ServiceRequest savedRequest = serviceRequestRepository.save(request);
 
         createStatusHistory(savedRequest, null, RequestStatus.RECEIVED, "Initial request created");
+        // Inserts are deferred until flush now that IDs come from a sequence; flush here so the
+        // response carries the generated timestamps
+        serviceRequestRepository.flush();
+        eventPublisher.publishEvent(new RequestCreatedEvent(ServiceRequestSummary.fromEntity(savedRequest)));
 
         log.info("Service request created with token: {}", savedRequest.getToken());
         return ServiceRequestResponse.fromEntity(savedRequest);
@@ -78,12 +119,23 @@ public class ServiceRequestService {
     @Transactional(readOnly = true)
     public ServiceRequestResponse getByToken(String token) {
         log.debug("Fetching service request by token: {}", token);
-        ServiceRequest request = serviceRequestRepository.findByToken(token)
+        ServiceRequest request = serviceRequestRepository.findWithHistoryByToken(token)
             .orElseThrow(() -> new ResourceNotFoundException("Service request", "token", token));
         
         return ServiceRequestResponse.fromEntity(request);
     }
 
+    /**
+     * Current status of the request, in the form pushed to event stream subscribers.
+     */
+    @Transactional(readOnly = true)
+    public RequestStatusEvent getStatusByToken(String token) {
+        ServiceRequest request = serviceRequestRepository.findByToken(token)
+            .orElseThrow(() -> new ResourceNotFoundException("Service request", "token", token));
+        return new RequestStatusEvent(request.getId(), request.getMunicipalityName(), null,
+            request.getStatus(), request.getVersion(), request.getUpdatedAt());
+    }
+
     @Transactional
     public void cancelByToken(String token) {
         log.info("Cancelling service request with token: {}", token);
@@ -99,47 +151,221 @@ public class ServiceRequestService {
         }
 
         RequestStatus previousStatus = request.getStatus();
-        request.setStatus(RequestStatus.CANCELLED);
-        serviceRequestRepository.save(request);
+        applyStatusChange(request, RequestStatus.CANCELLED, null);
+        releaseCapacity(request.getMunicipalityName(), request.getPreferredDate(), request.getPreferredTimeSlot());
 
         createStatusHistory(request, previousStatus, RequestStatus.CANCELLED, "Cancelled by citizen");
+        publishStatusChange(request, previousStatus);
         log.info("Service request cancelled: {}", token);
     }
 
     @Transactional(readOnly = true)
-    public List<ServiceRequestResponse> getAllRequests(String municipalityName) {
+    public List<ServiceRequestSummary> getAllRequests(String municipalityName) {
         log.debug("Fetching all service requests for municipality: {}", municipalityName);
         
-        List<ServiceRequest> requests;
         if (municipalityName != null && !municipalityName.isBlank()) {
-            requests = serviceRequestRepository.findByMunicipalityName(municipalityName);
+            return serviceRequestRepository.findSummariesByMunicipalityName(municipalityName);
+        }
+        return serviceRequestRepository.findAllSummaries();
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ServiceRequestSummary> getAllRequests(String municipalityName, String cursor, Integer pageSize) {
+        int size = resolvePageSize(pageSize);
+        log.debug("Fetching page of service requests for municipality: {} (size {}, cursor {})",
+            municipalityName, size, cursor);
+
+        boolean filtered = municipalityName != null && !municipalityName.isBlank();
+        Limit limit = Limit.of(size + 1);
+        List<ServiceRequestSummary> requests;
+        if (cursor == null || cursor.isBlank()) {
+            requests = filtered
+                ? serviceRequestRepository.findFirstPageByMunicipality(municipalityName, limit)
+                : serviceRequestRepository.findFirstPage(limit);
         } else {
-            requests = serviceRequestRepository.findAllByOrderByCreatedAtDesc();
+            RequestCursor position = RequestCursor.decode(cursor);
+            requests = filtered
+                ? serviceRequestRepository.findPageAfterByMunicipality(
+                    municipalityName, position.timestamp(), position.id(), limit)
+                : serviceRequestRepository.findPageAfter(position.timestamp(), position.id(), limit);
+        }
+
+        boolean hasMore = requests.size() > size;
+        List<ServiceRequestSummary> pageItems = hasMore ? requests.subList(0, size) : requests;
+        String nextCursor = null;
+        if (hasMore) {
+            ServiceRequestSummary last = pageItems.get(pageItems.size() - 1);
+            nextCursor = new RequestCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new CursorPage<>(List.copyOf(pageItems), nextCursor, hasMore);
+    }
+
+    /**
+     * Requests created or changed since the cursor, oldest change first, for clients keeping a
+     * local copy of the list. Cancelled requests come back as tombstones. {@code nextCursor} is
+     * always set and is the {@code since} of the next call; {@code hasMore} means it can be made
+     * right away.
+     * <p>
+     * The timestamp of a change is taken before its transaction commits, so a slow transaction
+     * can commit behind a cursor that was already handed out. Once a client has caught up, the
+     * cursor is therefore moved back to the start of the overlap window and the changes of the
+     * last {@code app.staff.changes.overlap} are sent again: clients deduplicate by
+     * {@code (id, version)}, and only a change whose transaction took longer than the window to
+     * commit can be missed.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<RequestChange> getChanges(String municipalityName, String since, Integer pageSize) {
+        int size = resolvePageSize(pageSize);
+        log.debug("Fetching changes of service requests for municipality: {} (size {}, since {})",
+            municipalityName, size, since);
+
+        RequestCursor position = since == null || since.isBlank() ? CHANGES_START : RequestCursor.decode(since);
+        // Anything not committed yet when the query runs has a timestamp after this
+        LocalDateTime overlapStart = LocalDateTime.now().minus(changesOverlap);
+        Limit limit = Limit.of(size + 1);
+        List<ServiceRequestSummary> changes = municipalityName != null && !municipalityName.isBlank()
+            ? serviceRequestRepository.findChangesAfterByMunicipality(
+                municipalityName, position.timestamp(), position.id(), limit)
+            : serviceRequestRepository.findChangesAfter(position.timestamp(), position.id(), limit);
+
+        boolean hasMore = changes.size() > size;
+        List<ServiceRequestSummary> pageItems = hasMore ? changes.subList(0, size) : changes;
+        if (!pageItems.isEmpty()) {
+            ServiceRequestSummary last = pageItems.get(pageItems.size() - 1);
+            position = new RequestCursor(last.getUpdatedAt(), last.getId());
+        }
+        if (!hasMore && !position.timestamp().isBefore(overlapStart)) {
+            position = new RequestCursor(overlapStart, 0L);
         }
 
-        return requests.stream()
-            .map(ServiceRequestResponse::fromEntity)
-            .collect(Collectors.toList());
+        return new CursorPage<>(pageItems.stream().map(RequestChange::of).toList(), position.encode(), hasMore);
     }
 
     @Transactional
     public ServiceRequestResponse updateStatus(Long id, UpdateStatusRequest updateRequest) {
         log.info("Updating status for request ID: {} to {}", id, updateRequest.getNewStatus());
         
-        ServiceRequest request = serviceRequestRepository.findById(id)
+        ServiceRequest request = serviceRequestRepository.findWithHistoryById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Service request", "id", id));
 
+        if (updateRequest.getVersion() != null && !updateRequest.getVersion().equals(request.getVersion())) {
+            throw new ConcurrentUpdateException("Service request", id);
+        }
         validateStatusTransition(request.getStatus(), updateRequest.getNewStatus());
+        adjustCapacity(request, updateRequest.getNewStatus());
 
         RequestStatus previousStatus = request.getStatus();
-        request.setStatus(updateRequest.getNewStatus());
-        ServiceRequest updatedRequest = serviceRequestRepository.save(request);
+        applyStatusChange(request, updateRequest.getNewStatus(), updateRequest.getVersion());
 
-        createStatusHistory(updatedRequest, previousStatus, updateRequest.getNewStatus(), 
+        StatusHistory history = createStatusHistory(request, previousStatus, updateRequest.getNewStatus(),
             updateRequest.getNotes());
+        request.getStatusHistory().add(0, history);
+        publishStatusChange(request, previousStatus);
 
         log.info("Status updated successfully for request ID: {}", id);
-        return ServiceRequestResponse.fromEntity(updatedRequest);
+        return ServiceRequestResponse.fromEntity(request);
+    }
+
+    /**
+     * Apply many status transitions in one transaction. Every item is validated with the same
+     * rules as {@link #updateStatus}; items that fail are reported and skipped without affecting
+     * the others. Accepted transitions and their history rows are written in JDBC batches.
+     */
+    @Transactional
+    public BulkStatusUpdateResponse updateStatuses(BulkStatusUpdateRequest bulkRequest) {
+        List<BulkStatusUpdateRequest.Item> items = bulkRequest.getItems();
+        log.info("Applying bulk status update with {} items", items.size());
+
+        if (items.size() > maxBulkItems) {
+            throw new BusinessException(
+                String.format("A bulk update accepts at most %d items", maxBulkItems));
+        }
+
+        Map<Long, ServiceRequestSummary> requests = serviceRequestRepository
+            .findSummariesByIdIn(items.stream().map(BulkStatusUpdateRequest.Item::getId).toList())
+            .stream()
+            .collect(Collectors.toMap(ServiceRequestSummary::getId, Function.identity()));
+
+        BulkStatusUpdateResponse.ItemResult[] results = new BulkStatusUpdateResponse.ItemResult[items.size()];
+        List<BulkTransition> accepted = new ArrayList<>();
+        Set<Long> seenIds = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            BulkStatusUpdateRequest.Item item = items.get(i);
+            ServiceRequestSummary request = requests.get(item.getId());
+            try {
+                if (!seenIds.add(item.getId())) {
+                    throw new BusinessException("Request appears more than once in the same bulk update");
+                }
+                if (request == null) {
+                    throw new ResourceNotFoundException("Service request", "id", item.getId());
+                }
+                validateStatusTransition(request.getStatus(), item.getNewStatus());
+                if (!isActive(request.getStatus()) && isActive(item.getNewStatus())) {
+                    reserveCapacity(request.getMunicipalityName(), request.getPreferredDate(), request.getPreferredTimeSlot());
+                }
+                accepted.add(new BulkTransition(i, request, item));
+            } catch (BusinessException | ResourceNotFoundException e) {
+                results[i] = BulkStatusUpdateResponse.ItemResult.rejected(
+                    item.getId(), item.getNewStatus(), e.getMessage());
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int[][] updateCounts = jdbcTemplate.batchUpdate(COMPARE_AND_SET_STATUS_SQL, accepted, bulkBatchSize,
+            (ps, transition) -> {
+                ps.setString(1, transition.item().getNewStatus().name());
+                ps.setObject(2, now);
+                ps.setLong(3, transition.request().getId());
+                ps.setString(4, transition.request().getStatus().name());
+            });
+
+        List<BulkTransition> applied = new ArrayList<>();
+        int position = 0;
+        for (int[] batch : updateCounts) {
+            for (int count : batch) {
+                BulkTransition transition = accepted.get(position++);
+                ServiceRequestSummary request = transition.request();
+                RequestStatus newStatus = transition.item().getNewStatus();
+                if (count == 0) {
+                    if (!isActive(request.getStatus()) && isActive(newStatus)) {
+                        releaseCapacity(request.getMunicipalityName(), request.getPreferredDate(), request.getPreferredTimeSlot());
+                    }
+                    results[transition.index()] = BulkStatusUpdateResponse.ItemResult.rejected(
+                        request.getId(), newStatus,
+                        new ConcurrentUpdateException("Service request", request.getId()).getMessage());
+                    continue;
+                }
+                if (isActive(request.getStatus()) && !isActive(newStatus)) {
+                    releaseCapacity(request.getMunicipalityName(), request.getPreferredDate(), request.getPreferredTimeSlot());
+                }
+                applied.add(transition);
+                Long version = request.getVersion() == null ? null : request.getVersion() + 1;
+                eventPublisher.publishEvent(new RequestStatusEvent(request.getId(), request.getMunicipalityName(),
+                    request.getStatus(), newStatus, version, now));
+                results[transition.index()] = BulkStatusUpdateResponse.ItemResult.applied(
+                    request.getId(), request.getStatus(), newStatus);
+            }
+        }
+
+        // History rows are inserted by Hibernate in JDBC batches (hibernate.jdbc.batch_size)
+        statusHistoryRepository.saveAll(applied.stream()
+            .map(transition -> newStatusHistory(
+                serviceRequestRepository.getReferenceById(transition.request().getId()),
+                transition.request().getStatus(), transition.item().getNewStatus(),
+                transition.item().getNotes(), now))
+            .toList());
+
+        log.info("Bulk status update applied {} of {} items", applied.size(), items.size());
+        return new BulkStatusUpdateResponse(applied.size(), items.size() - applied.size(), List.of(results));
+    }
+
+    /**
+     * Announce a change already applied to the request; subscribers receive it after commit.
+     */
+    private void publishStatusChange(ServiceRequest request, RequestStatus previousStatus) {
+        eventPublisher.publishEvent(new RequestStatusEvent(request.getId(), request.getMunicipalityName(),
+            previousStatus, request.getStatus(), request.getVersion(), request.getUpdatedAt()));
     }
 
     private void validateStatusTransition(RequestStatus current, RequestStatus newStatus) {
@@ -169,15 +395,109 @@ public class ServiceRequestService {
         }
     }
 
-    private void createStatusHistory(ServiceRequest request, RequestStatus previousStatus, 
-                                     RequestStatus newStatus, String notes) {
+    private int resolvePageSize(Integer pageSize) {
+        if (pageSize == null) {
+            return defaultPageSize;
+        }
+        if (pageSize < 1) {
+            throw new BusinessException("Page size must be at least 1");
+        }
+        return Math.min(pageSize, maxPageSize);
+    }
+
+    /**
+     * Match the submitted municipality against the cached GeoAPI.pt list and use its canonical
+     * name and code. Until a list has been loaded the submitted values are kept as they are.
+     */
+    private MunicipalityDTO resolveMunicipality(ServiceRequestDTO dto) {
+        MunicipalityDictionary dictionary = municipalityService.getDictionary();
+        if (dictionary.isEmpty()) {
+            return new MunicipalityDTO(dto.getMunicipalityName(), dto.getMunicipalityCode());
+        }
+        return dictionary.resolve(dto.getMunicipalityCode(), dto.getMunicipalityName())
+            .orElseThrow(() -> new BusinessException("Unknown municipality: " + dto.getMunicipalityName()));
+    }
+
+    /**
+     * Reserve room for one request on the date and in the time slot. The day is handed back
+     * when the slot is full, so a rejection leaves both counters as they were even when the
+     * transaction goes on (as a bulk update does).
+     */
+    private void reserveCapacity(String municipalityName, LocalDate date, TimeSlot slot) {
+        if (!dailyQuotaService.tryReserve(municipalityName, date, maxRequestsPerMunicipalityPerDay)) {
+            throw new BusinessException(
+                String.format("Daily limit reached for municipality %s on %s. Maximum %d requests allowed per day.",
+                    municipalityName, date, maxRequestsPerMunicipalityPerDay)
+            );
+        }
+
+        int slotCapacity = slotCapacityService.getCapacity(municipalityName, slot);
+        if (!dailyQuotaService.tryReserveSlot(municipalityName, date, slot, slotCapacity)) {
+            dailyQuotaService.release(municipalityName, date);
+            throw new BusinessException(
+                String.format("Time slot %s is full for municipality %s on %s. Maximum %d requests allowed in this slot.",
+                    slot, municipalityName, date, slotCapacity)
+            );
+        }
+    }
+
+    private void releaseCapacity(String municipalityName, LocalDate date, TimeSlot slot) {
+        dailyQuotaService.release(municipalityName, date);
+        dailyQuotaService.releaseSlot(municipalityName, date, slot);
+    }
+
+    private void adjustCapacity(ServiceRequest request, RequestStatus newStatus) {
+        boolean wasActive = isActive(request.getStatus());
+        boolean willBeActive = isActive(newStatus);
+
+        if (wasActive && !willBeActive) {
+            releaseCapacity(request.getMunicipalityName(), request.getPreferredDate(), request.getPreferredTimeSlot());
+        } else if (!wasActive && willBeActive) {
+            reserveCapacity(request.getMunicipalityName(), request.getPreferredDate(), request.getPreferredTimeSlot());
+        }
+    }
+
+    private record BulkTransition(int index, ServiceRequestSummary request, BulkStatusUpdateRequest.Item item) {}
+
+    private boolean isActive(RequestStatus status) {
+        return status != RequestStatus.CANCELLED && status != RequestStatus.COMPLETED;
+    }
+
+    /**
+     * Move the request to the new status with a single conditional UPDATE that only matches
+     * while the request still has the status (and version) it was validated against, so two
+     * concurrent transitions cannot both succeed. The given instance is updated to match.
+     */
+    private void applyStatusChange(ServiceRequest request, RequestStatus newStatus, Long expectedVersion) {
+        LocalDateTime updatedAt = LocalDateTime.now();
+        int updated = serviceRequestRepository.compareAndSetStatus(
+            request.getId(), request.getStatus(), newStatus, expectedVersion, updatedAt);
+        if (updated == 0) {
+            throw new ConcurrentUpdateException("Service request", request.getId());
+        }
+
+        request.setStatus(newStatus);
+        request.setUpdatedAt(updatedAt);
+        if (request.getVersion() != null) {
+            request.setVersion(request.getVersion() + 1);
+        }
+    }
+
+    private StatusHistory createStatusHistory(ServiceRequest request, RequestStatus previousStatus,
+                                              RequestStatus newStatus, String notes) {
+        return statusHistoryRepository.save(
+            newStatusHistory(request, previousStatus, newStatus, notes, LocalDateTime.now()));
+    }
+
+    private StatusHistory newStatusHistory(ServiceRequest request, RequestStatus previousStatus,
+                                           RequestStatus newStatus, String notes, LocalDateTime timestamp) {
         StatusHistory history = new StatusHistory();
         history.setServiceRequest(request);
         history.setPreviousStatus(previousStatus);
         history.setNewStatus(newStatus);
-        history.setTimestamp(LocalDateTime.now());
+        history.setTimestamp(timestamp);
         history.setNotes(notes);
-        statusHistoryRepository.save(history);
+        return history;
     }
 }
 
@@ -0,0 +1,143 @@
+package com.zeremonos.wastecollection.service;
+
+import com.zeremonos.wastecollection.dto.SlotCapacityDTO;
+import com.zeremonos.wastecollection.exception.BusinessException;
+import com.zeremonos.wastecollection.exception.ResourceNotFoundException;
+import com.zeremonos.wastecollection.model.SlotCapacity;
+import com.zeremonos.wastecollection.model.TimeSlot;
+import com.zeremonos.wastecollection.repository.SlotCapacityRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Capacity of each time slot per municipality, served from an in-memory snapshot of the
+ * {@code slot_capacities} table so enforcing it on every create is a map lookup.
+ * <p>
+ * Slots without a configured capacity use the default for the slot, which in turn defaults to
+ * the daily limit (the slot then adds no constraint of its own). Changes made through this
+ * service replace the snapshot right away; changes made directly in the table are picked up
+ * with {@link #reload()}.
+ */
+@Service
+@Slf4j
+public class SlotCapacityService implements SmartInitializingSingleton {
+
+    private final SlotCapacityRepository slotCapacityRepository;
+    private final MunicipalityService municipalityService;
+    private final Map<TimeSlot, Integer> defaults = new EnumMap<>(TimeSlot.class);
+    private volatile Map<String, Map<TimeSlot, Integer>> capacities = Map.of();
+
+    public SlotCapacityService(SlotCapacityRepository slotCapacityRepository,
+                               MunicipalityService municipalityService,
+                               @Value("${app.slot-capacity.default.morning:${app.max-requests-per-municipality-per-day:10}}") int morning,
+                               @Value("${app.slot-capacity.default.afternoon:${app.max-requests-per-municipality-per-day:10}}") int afternoon,
+                               @Value("${app.slot-capacity.default.evening:${app.max-requests-per-municipality-per-day:10}}") int evening) {
+        this.slotCapacityRepository = slotCapacityRepository;
+        this.municipalityService = municipalityService;
+        defaults.put(TimeSlot.MORNING, morning);
+        defaults.put(TimeSlot.AFTERNOON, afternoon);
+        defaults.put(TimeSlot.EVENING, evening);
+    }
+
+    /**
+     * Load the configured capacities before the web server accepts requests.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    /**
+     * Replace the snapshot with the capacities currently in the table.
+     * @return the number of configured capacities
+     */
+    public int reload() {
+        List<SlotCapacity> rows = slotCapacityRepository.findAll();
+        Map<String, Map<TimeSlot, Integer>> loaded = new HashMap<>();
+        for (SlotCapacity row : rows) {
+            loaded.computeIfAbsent(row.getMunicipalityName(), name -> new EnumMap<>(TimeSlot.class))
+                .put(row.getTimeSlot(), row.getCapacity());
+        }
+        loaded.replaceAll((name, slots) -> Collections.unmodifiableMap(slots));
+        capacities = Collections.unmodifiableMap(loaded);
+        log.info("Slot capacities loaded for {} municipalities", loaded.size());
+        return rows.size();
+    }
+
+    /**
+     * Capacity of a time slot in the municipality, read from memory.
+     * @param municipalityName the canonical name of the municipality
+     */
+    public int getCapacity(String municipalityName, TimeSlot slot) {
+        Map<TimeSlot, Integer> configured = capacities.get(municipalityName);
+        Integer capacity = configured == null ? null : configured.get(slot);
+        return capacity != null ? capacity : defaults.get(slot);
+    }
+
+    /**
+     * Capacity of every time slot in the municipality, configured or default.
+     * @param municipalityName the name of the municipality, matched like on request creation
+     */
+    public Map<TimeSlot, Integer> getCapacities(String municipalityName) {
+        String name = municipalityService.resolveName(municipalityName);
+        Map<TimeSlot, Integer> slots = new EnumMap<>(TimeSlot.class);
+        for (TimeSlot slot : TimeSlot.values()) {
+            slots.put(slot, getCapacity(name, slot));
+        }
+        return slots;
+    }
+
+    /**
+     * Every capacity configured in the table, by municipality and slot.
+     */
+    public List<SlotCapacityDTO> getConfiguredCapacities() {
+        return capacities.entrySet().stream()
+            .flatMap(entry -> entry.getValue().entrySet().stream()
+                .map(slot -> new SlotCapacityDTO(entry.getKey(), slot.getKey(), slot.getValue())))
+            .sorted(Comparator.comparing(SlotCapacityDTO::municipalityName)
+                .thenComparing(SlotCapacityDTO::timeSlot))
+            .toList();
+    }
+
+    /**
+     * Set the capacity of a time slot in the municipality. Requests already accepted for the
+     * slot are kept even when they exceed the new capacity.
+     * @throws BusinessException if the capacity is negative
+     */
+    public SlotCapacityDTO setCapacity(String municipalityName, TimeSlot slot, int capacity) {
+        if (capacity < 0) {
+            throw new BusinessException("Capacity cannot be negative");
+        }
+        String name = municipalityService.resolveName(municipalityName);
+        SlotCapacity row = slotCapacityRepository.findByMunicipalityNameAndTimeSlot(name, slot)
+            .orElseGet(() -> new SlotCapacity(name, slot, capacity));
+        row.setCapacity(capacity);
+        slotCapacityRepository.save(row);
+        log.info("Capacity of slot {} in {} set to {}", slot, name, capacity);
+        reload();
+        return new SlotCapacityDTO(name, slot, capacity);
+    }
+
+    /**
+     * Remove the configured capacity of a time slot, so the default applies again.
+     * @throws ResourceNotFoundException if no capacity was configured for the slot
+     */
+    public void removeCapacity(String municipalityName, TimeSlot slot) {
+        String name = municipalityService.resolveName(municipalityName);
+        SlotCapacity row = slotCapacityRepository.findByMunicipalityNameAndTimeSlot(name, slot)
+            .orElseThrow(() -> new ResourceNotFoundException(
+                "No capacity configured for slot " + slot + " in " + name));
+        slotCapacityRepository.delete(row);
+        log.info("Capacity of slot {} in {} reset to the default", slot, name);
+        reload();
+    }
+}
@@ -0,0 +1,136 @@
+package com.zeremonos.wastecollection.service;
+
+import com.zeremonos.wastecollection.dto.RequestCreatedEvent;
+import com.zeremonos.wastecollection.dto.RequestStatusEvent;
+import com.zeremonos.wastecollection.dto.StaffRequestDelta;
+import com.zeremonos.wastecollection.exception.SubscriberLimitException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stream of committed request creations, transitions and cancellations for the staff dashboard.
+ * <p>
+ * Every delta gets the next sequence number, which is sent as the event id. The latest deltas
+ * are kept in a bounded replay buffer, so a client reconnecting with {@code Last-Event-ID}
+ * receives what it missed instead of reloading the list. When the gap is no longer in the
+ * buffer (or the server restarted), the client is told to reload once with a reset event.
+ * <p>
+ * Numbering, buffering and queueing happen under one lock so every subscriber receives the
+ * deltas in sequence order. The writes themselves happen on the {@link EventStreamSender}, so
+ * a slow dashboard never holds the lock or the thread that committed the change. A subscriber
+ * that falls a whole replay buffer behind is dropped; it resumes from the buffer or gets a
+ * reset when it reconnects.
+ */
+@Component
+public class StaffRequestFeed {
+
+    static final String DELTA_EVENT = "delta";
+    static final String RESET_EVENT = "reset";
+
+    private final EventStreamSender sender;
+    private final int maxSubscribers;
+    private final int replaySize;
+    private final long timeoutMillis;
+    private final Object lock = new Object();
+    private final Deque<StaffRequestDelta> replay = new ArrayDeque<>();
+    private final Set<EventStreamSender.Channel> subscribers = ConcurrentHashMap.newKeySet();
+    private long sequence;
+
+    @Autowired
+    public StaffRequestFeed(EventStreamSender sender,
+                            @Value("${app.events.staff.max-subscribers:100}") int maxSubscribers,
+                            @Value("${app.events.staff.replay-size:1000}") int replaySize,
+                            @Value("${app.events.subscriber-timeout:30m}") Duration timeout) {
+        this.sender = sender;
+        this.maxSubscribers = maxSubscribers;
+        this.replaySize = replaySize;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    /**
+     * Open a stream of deltas.
+     * @param lastEventId sequence of the last delta the client applied, or null for a new client
+     * @throws SubscriberLimitException if the maximum number of open streams is reached
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        synchronized (lock) {
+            if (subscribers.size() >= maxSubscribers) {
+                throw new SubscriberLimitException(maxSubscribers);
+            }
+            // A queue as long as the replay buffer: a subscriber further behind could not resume either
+            EventStreamSender.Channel channel = sender.open(emitter, Math.max(1, replaySize), subscribers::remove);
+            subscribers.add(channel);
+            emitter.onCompletion(() -> subscribers.remove(channel));
+            emitter.onTimeout(() -> subscribers.remove(channel));
+            emitter.onError(e -> subscribers.remove(channel));
+
+            if (lastEventId != null) {
+                resume(channel, lastEventId);
+            }
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onRequestCreated(RequestCreatedEvent event) {
+        synchronized (lock) {
+            broadcast(StaffRequestDelta.created(++sequence, event.request()));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onStatusChanged(RequestStatusEvent event) {
+        synchronized (lock) {
+            broadcast(StaffRequestDelta.changed(++sequence, event));
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private void resume(EventStreamSender.Channel channel, long lastEventId) {
+        StaffRequestDelta oldest = replay.peekFirst();
+        long oldestAvailable = oldest == null ? sequence + 1 : oldest.sequence();
+        if (lastEventId > sequence || lastEventId < oldestAvailable - 1) {
+            channel.send(SseEmitter.event().name(RESET_EVENT).id(String.valueOf(sequence)).data(sequence));
+            return;
+        }
+        for (StaffRequestDelta delta : replay) {
+            if (delta.sequence() > lastEventId && !channel.send(event(delta))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Buffer the delta and queue it for every subscriber; nothing is written to a connection here.
+     */
+    private void broadcast(StaffRequestDelta delta) {
+        replay.addLast(delta);
+        if (replay.size() > replaySize) {
+            replay.removeFirst();
+        }
+        for (EventStreamSender.Channel channel : subscribers) {
+            channel.send(event(delta));
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder event(StaffRequestDelta delta) {
+        return SseEmitter.event()
+            .name(DELTA_EVENT)
+            .id(String.valueOf(delta.sequence()))
+            .data(delta, MediaType.APPLICATION_JSON);
+    }
+}
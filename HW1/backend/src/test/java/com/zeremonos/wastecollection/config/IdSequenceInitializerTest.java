@@ -0,0 +1,103 @@
+package com.zeremonos.wastecollection.config;
+
+import com.zeremonos.wastecollection.dto.ServiceRequestDTO;
+import com.zeremonos.wastecollection.dto.ServiceRequestResponse;
+import com.zeremonos.wastecollection.model.ServiceRequest;
+import com.zeremonos.wastecollection.model.TimeSlot;
+import com.zeremonos.wastecollection.repository.ServiceRequestRepository;
+import com.zeremonos.wastecollection.service.ServiceRequestService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the application on a database created while IDs still came from IDENTITY columns.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=" + IdSequenceInitializerTest.URL,
+    "spring.jpa.hibernate.ddl-auto=update"
+})
+@DirtiesContext
+@DisplayName("IdSequenceInitializer - Existing Rows Tests")
+class IdSequenceInitializerTest {
+
+    static final String URL = "jdbc:h2:mem:legacyids;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private ServiceRequestService serviceRequestService;
+
+    @Autowired
+    private ServiceRequestRepository serviceRequestRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void createLegacyRows() throws Exception {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE service_requests (" +
+                "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
+                "token VARCHAR(36) NOT NULL UNIQUE, municipality_code VARCHAR(20) NOT NULL, " +
+                "municipality_name VARCHAR(100) NOT NULL, citizen_name VARCHAR(100) NOT NULL, " +
+                "citizen_email VARCHAR(100), citizen_phone VARCHAR(20), pickup_address VARCHAR(200) NOT NULL, " +
+                "item_description VARCHAR(500) NOT NULL, preferred_date DATE NOT NULL, " +
+                "preferred_time_slot VARCHAR(20) NOT NULL, status VARCHAR(20) NOT NULL, " +
+                "created_at TIMESTAMP(6) NOT NULL, updated_at TIMESTAMP(6) NOT NULL, version BIGINT DEFAULT 0)");
+            statement.execute("CREATE TABLE status_history (" +
+                "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
+                "service_request_id BIGINT NOT NULL REFERENCES service_requests(id), " +
+                "previous_status VARCHAR(20), new_status VARCHAR(20) NOT NULL, " +
+                "timestamp TIMESTAMP(6) NOT NULL, notes VARCHAR(255))");
+            for (int id = 1; id <= 3; id++) {
+                statement.execute("INSERT INTO service_requests (token, municipality_code, municipality_name, " +
+                    "citizen_name, pickup_address, item_description, preferred_date, preferred_time_slot, status, " +
+                    "created_at, updated_at) VALUES ('legacy-" + id + "', '1106', 'Lisboa', 'Legacy Citizen', " +
+                    "'Rua Antiga, 1', 'Old sofa', CURRENT_DATE + 3, 'MORNING', 'RECEIVED', " +
+                    "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+                statement.execute("INSERT INTO status_history (service_request_id, new_status, timestamp) " +
+                    "VALUES (" + id + ", 'RECEIVED', CURRENT_TIMESTAMP)");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should give new requests and history rows IDs above the existing ones")
+    void testCreateAfterUpgrade_NoPrimaryKeyCollision() {
+        ServiceRequestResponse created = serviceRequestService.createServiceRequest(createDTO());
+
+        ServiceRequest saved = serviceRequestRepository.findByToken(created.getToken()).orElseThrow();
+        assertThat(saved.getId()).isGreaterThan(3L);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT MIN(id) FROM status_history WHERE service_request_id = ?", Long.class, saved.getId()))
+            .isGreaterThan(3L);
+        assertThat(serviceRequestRepository.count()).isEqualTo(4);
+    }
+
+    private ServiceRequestDTO createDTO() {
+        ServiceRequestDTO dto = new ServiceRequestDTO();
+        dto.setMunicipalityCode("1106");
+        dto.setMunicipalityName("Lisboa");
+        dto.setCitizenName("New Citizen");
+        dto.setCitizenEmail("citizen@example.com");
+        dto.setCitizenPhone("912345678");
+        dto.setPickupAddress("Rua Nova, 2");
+        dto.setItemDescription("Old refrigerator");
+        dto.setPreferredDate(LocalDate.now().plusDays(3));
+        dto.setPreferredTimeSlot(TimeSlot.MORNING);
+        return dto;
+    }
+}
@@ -182,6 +182,39 @@ class CitizenControllerMockMvcTest {
                 .andExpect(jsonPath("$.statusHistory").isArray());
     }
 
+    @Test
+    @DisplayName("Should answer a matching If-None-Match with 304 until the request changes")
+    void testGetRequestByToken_ConditionalGet() throws Exception {
+        String response = mockMvc.perform(post("/api/requests")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(validDTO)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String token = objectMapper.readTree(response).get("token").asText();
+
+        String etag = mockMvc.perform(get("/api/requests/{token}", token))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("no-cache")))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mockMvc.perform(get("/api/requests/{token}", token).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(delete("/api/requests/{token}", token))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/requests/{token}", token).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$.status").value("CANCELLED"));
+    }
+
     @Test
     @DisplayName("Should return 404 when token not found")
     void testGetRequestByToken_InvalidToken_Returns404() throws Exception {
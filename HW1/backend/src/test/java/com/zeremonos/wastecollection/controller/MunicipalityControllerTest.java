@@ -1,21 +1,39 @@
 package com.zeremonos.wastecollection.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zeremonos.wastecollection.dto.DateAvailability;
 import com.zeremonos.wastecollection.dto.MunicipalityDTO;
+import com.zeremonos.wastecollection.dto.ParishDTO;
+import com.zeremonos.wastecollection.exception.ResourceNotFoundException;
+import com.zeremonos.wastecollection.model.TimeSlot;
+import com.zeremonos.wastecollection.service.AvailabilityService;
+import com.zeremonos.wastecollection.service.EncodedJson;
 import com.zeremonos.wastecollection.service.MunicipalityService;
+import com.zeremonos.wastecollection.service.ParishService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -28,6 +46,12 @@ class MunicipalityControllerTest {
     @MockitoBean
     private MunicipalityService municipalityService;
 
+    @MockitoBean
+    private ParishService parishService;
+
+    @MockitoBean
+    private AvailabilityService availabilityService;
+
     @Test
     void testGetAllMunicipalities_Success() throws Exception {
         List<MunicipalityDTO> mockMunicipalities = Arrays.asList(
@@ -36,7 +60,7 @@ class MunicipalityControllerTest {
                 new MunicipalityDTO("Braga", "BRAG03")
         );
 
-        when(municipalityService.getAllMunicipalities()).thenReturn(mockMunicipalities);
+        when(municipalityService.getEncodedMunicipalities()).thenReturn(encoded(mockMunicipalities, null));
 
         mockMvc.perform(get("/api/municipalities")
                         .contentType(MediaType.APPLICATION_JSON))
@@ -51,7 +75,7 @@ class MunicipalityControllerTest {
 
     @Test
     void testGetAllMunicipalities_EmptyList() throws Exception {
-        when(municipalityService.getAllMunicipalities()).thenReturn(Collections.emptyList());
+        when(municipalityService.getEncodedMunicipalities()).thenReturn(encoded(Collections.emptyList(), null));
 
         mockMvc.perform(get("/api/municipalities")
                         .contentType(MediaType.APPLICATION_JSON))
@@ -62,12 +86,149 @@ class MunicipalityControllerTest {
 
     @Test
     void testGetAllMunicipalities_ServiceError() throws Exception {
-        when(municipalityService.getAllMunicipalities())
+        when(municipalityService.getEncodedMunicipalities())
                 .thenThrow(new RuntimeException("External API error"));
 
         mockMvc.perform(get("/api/municipalities")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isInternalServerError());
     }
-}
 
+    @Test
+    void testGetAllMunicipalitiesAsync_Success() throws Exception {
+        when(municipalityService.getAllMunicipalitiesAsync())
+                .thenReturn(Mono.just(List.of(new MunicipalityDTO("Lisboa", "LISB01"))));
+
+        MvcResult result = mockMvc.perform(get("/api/municipalities/async"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name", is("Lisboa")));
+    }
+
+    @Test
+    void testGetAllMunicipalitiesAsync_ServiceError() throws Exception {
+        when(municipalityService.getAllMunicipalitiesAsync())
+                .thenReturn(Mono.error(new RuntimeException("External API error")));
+
+        MvcResult result = mockMvc.perform(get("/api/municipalities/async"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isInternalServerError());
+    }
+
+    @Test
+    void testSearchMunicipalities_Success() throws Exception {
+        when(municipalityService.searchMunicipalities("lis", 10))
+                .thenReturn(List.of(new MunicipalityDTO("Lisboa", "LISB01")));
+
+        mockMvc.perform(get("/api/municipalities/search").param("q", "lis"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name", is("Lisboa")));
+    }
+
+    @Test
+    void testSearchMunicipalities_LimitCapped() throws Exception {
+        when(municipalityService.searchMunicipalities("a", 50)).thenReturn(Collections.emptyList());
+
+        mockMvc.perform(get("/api/municipalities/search").param("q", "a").param("limit", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    void testSearchParishes_Success() throws Exception {
+        when(parishService.searchParishes("sant", 5))
+                .thenReturn(List.of(new ParishDTO("Santo António", "Lisboa")));
+
+        mockMvc.perform(get("/api/municipalities/parishes/search").param("q", "sant").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name", is("Santo António")))
+                .andExpect(jsonPath("$[0].municipalityName", is("Lisboa")));
+    }
+
+    @Test
+    void testSearchParishes_ServiceError() throws Exception {
+        when(parishService.searchParishes("sant", 10)).thenThrow(new RuntimeException("External API error"));
+
+        mockMvc.perform(get("/api/municipalities/parishes/search").param("q", "sant"))
+                .andExpect(status().isInternalServerError());
+    }
+
+    @Test
+    void testGetAllMunicipalities_ETagAndCacheControl() throws Exception {
+        when(municipalityService.getEncodedMunicipalities())
+                .thenReturn(encoded(List.of(new MunicipalityDTO("Lisboa", "LISB01")), "abc123"));
+
+        mockMvc.perform(get("/api/municipalities"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc123\""))
+                .andExpect(header().string("Cache-Control", "max-age=3600, public"));
+
+        mockMvc.perform(get("/api/municipalities").header("If-None-Match", "\"abc123\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void testGetAllMunicipalities_GzipWhenAccepted() throws Exception {
+        when(municipalityService.getEncodedMunicipalities())
+                .thenReturn(encoded(List.of(new MunicipalityDTO("Lisboa", "LISB01")), "abc123"));
+
+        byte[] body = mockMvc.perform(get("/api/municipalities").header("Accept-Encoding", "br, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().stringValues("Vary", hasItem("Accept-Encoding")))
+                .andExpect(header().string("ETag", "\"abc123-gzip\""))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(new String(gzip.readAllBytes(), StandardCharsets.UTF_8))
+                    .isEqualTo("[{\"name\":\"Lisboa\",\"code\":\"LISB01\"}]");
+        }
+    }
+
+    @Test
+    void testAcceptsGzip() {
+        assertThat(MunicipalityController.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(MunicipalityController.acceptsGzip("*")).isTrue();
+        assertThat(MunicipalityController.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(MunicipalityController.acceptsGzip("identity")).isFalse();
+        assertThat(MunicipalityController.acceptsGzip(null)).isFalse();
+    }
+
+    @Test
+    void testGetAvailability_Success() throws Exception {
+        LocalDate date = LocalDate.of(2030, 1, 15);
+        when(availabilityService.getAvailability("Lisboa", 7)).thenReturn(List.of(
+                new DateAvailability(date, 3, Map.of(TimeSlot.MORNING, 3))));
+
+        mockMvc.perform(get("/api/municipalities/Lisboa/availability").param("days", "7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].date", is("2030-01-15")))
+                .andExpect(jsonPath("$[0].remaining", is(3)))
+                .andExpect(jsonPath("$[0].slots.MORNING", is(3)));
+    }
+
+    @Test
+    void testGetAvailability_UnknownMunicipality() throws Exception {
+        when(availabilityService.getAvailability("Atlantis", null))
+                .thenThrow(new ResourceNotFoundException("Municipality", "name", "Atlantis"));
+
+        mockMvc.perform(get("/api/municipalities/Atlantis/availability"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static EncodedJson encoded(List<MunicipalityDTO> municipalities, String version) {
+        return EncodedJson.of(municipalities, new ObjectMapper(), version);
+    }
+}
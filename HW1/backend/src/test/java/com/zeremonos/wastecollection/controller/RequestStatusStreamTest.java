@@ -0,0 +1,226 @@
+package com.zeremonos.wastecollection.controller;
+
+import com.zeremonos.wastecollection.dto.ServiceRequestDTO;
+import com.zeremonos.wastecollection.dto.ServiceRequestResponse;
+import com.zeremonos.wastecollection.dto.UpdateStatusRequest;
+import com.zeremonos.wastecollection.model.RequestStatus;
+import com.zeremonos.wastecollection.model.TimeSlot;
+import com.zeremonos.wastecollection.service.RequestStatusNotifier;
+import com.zeremonos.wastecollection.service.ServiceRequestService;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:streamdb;DB_CLOSE_DELAY=-1",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("Request status streams - Server-Sent Events and Long Polling Tests")
+class RequestStatusStreamTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ServiceRequestService serviceRequestService;
+
+    @Autowired
+    private RequestStatusNotifier requestStatusNotifier;
+
+    @Test
+    @DisplayName("Should send the current status, then each committed change")
+    void testStream_PushesCommittedChanges() throws Exception {
+        ServiceRequestResponse created = serviceRequestService.createServiceRequest(createDTO());
+
+        MvcResult result = mockMvc.perform(get("/api/requests/{token}/events", created.getToken())
+                .accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        assertThat(requestStatusNotifier.getSubscriberCount()).isEqualTo(1);
+
+        serviceRequestService.updateStatus(created.getId(), new UpdateStatusRequest(RequestStatus.ASSIGNED, null));
+        serviceRequestService.updateStatus(created.getId(), new UpdateStatusRequest(RequestStatus.IN_PROGRESS, null));
+
+        // Events are written by the sender pool, after the update has returned
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> result.getResponse().getContentAsString().contains("id:2"));
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).contains("event:status", "\"status\":\"RECEIVED\"", "\"status\":\"ASSIGNED\"",
+            "\"status\":\"IN_PROGRESS\"", "id:2");
+        assertThat(body.indexOf("ASSIGNED")).isLessThan(body.indexOf("IN_PROGRESS"));
+    }
+
+    @Test
+    @DisplayName("Should not push changes that are rolled back")
+    void testStream_IgnoresRejectedChanges() throws Exception {
+        ServiceRequestResponse created = serviceRequestService.createServiceRequest(createDTO());
+        MvcResult result = mockMvc.perform(get("/api/requests/{token}/events", created.getToken()))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        try {
+            serviceRequestService.updateStatus(created.getId(),
+                new UpdateStatusRequest(RequestStatus.ASSIGNED, null, 99L));
+        } catch (RuntimeException expected) {
+            // Stale version: rejected before anything is written
+        }
+
+        assertThat(result.getResponse().getContentAsString()).doesNotContain("ASSIGNED");
+    }
+
+    @Test
+    @DisplayName("Should return 404 for an unknown token")
+    void testStream_UnknownToken() throws Exception {
+        mockMvc.perform(get("/api/requests/{token}/events", "unknown-token")
+                .accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(status().isNotFound());
+        assertThat(requestStatusNotifier.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should answer a status poll without a version right away")
+    void testPollStatus_NoVersion() throws Exception {
+        ServiceRequestResponse created = serviceRequestService.createServiceRequest(createDTO());
+
+        MvcResult result = mockMvc.perform(get("/api/requests/{token}/status", created.getToken()))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("RECEIVED"))
+            .andExpect(jsonPath("$.version").value(0))
+            .andExpect(jsonPath("$.token").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should park a status poll until the next committed change")
+    void testPollStatus_AnswersOnChange() throws Exception {
+        ServiceRequestResponse created = serviceRequestService.createServiceRequest(createDTO());
+
+        MvcResult result = mockMvc.perform(get("/api/requests/{token}/status", created.getToken())
+                .param("sinceVersion", "0"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        assertThat(requestStatusNotifier.getSubscriberCount()).isEqualTo(1);
+
+        serviceRequestService.updateStatus(created.getId(), new UpdateStatusRequest(RequestStatus.ASSIGNED, null));
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("ASSIGNED"))
+            .andExpect(jsonPath("$.version").value(1));
+    }
+
+    @Test
+    @DisplayName("Should answer a parked status poll with 304 when it times out")
+    void testPollStatus_TimesOut() throws Exception {
+        ServiceRequestResponse created = serviceRequestService.createServiceRequest(createDTO());
+
+        MvcResult result = mockMvc.perform(get("/api/requests/{token}/status", created.getToken())
+                .param("sinceVersion", "0"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Should push creations and transitions to staff as numbered deltas")
+    void testStaffStream_PushesDeltas() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/staff/requests/events"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        ServiceRequestResponse created = serviceRequestService.createServiceRequest(createDTO());
+        serviceRequestService.updateStatus(created.getId(), new UpdateStatusRequest(RequestStatus.ASSIGNED, null));
+        serviceRequestService.cancelByToken(created.getToken());
+
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> result.getResponse().getContentAsString(StandardCharsets.UTF_8).contains("id:3"));
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(body).contains("event:delta", "id:1", "id:2", "id:3",
+            "\"type\":\"CREATED\"", "\"citizenName\":\"João Silva\"",
+            "\"type\":\"TRANSITION\"", "\"status\":\"ASSIGNED\"",
+            "\"type\":\"CANCELLED\"");
+        assertThat(body).doesNotContain("citizenEmail", "token");
+    }
+
+    @Test
+    @DisplayName("Should replay only the deltas missed before a reconnect")
+    void testStaffStream_ResumesAfterLastEventId() throws Exception {
+        ServiceRequestResponse created = serviceRequestService.createServiceRequest(createDTO());
+        serviceRequestService.updateStatus(created.getId(), new UpdateStatusRequest(RequestStatus.ASSIGNED, null));
+        serviceRequestService.updateStatus(created.getId(), new UpdateStatusRequest(RequestStatus.IN_PROGRESS, null));
+
+        MvcResult result = mockMvc.perform(get("/api/staff/requests/events").header("Last-Event-ID", "1"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> result.getResponse().getContentAsString().contains("id:3"));
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).contains("id:2", "id:3", "ASSIGNED", "IN_PROGRESS").doesNotContain("CREATED", "id:1\n");
+    }
+
+    @Test
+    @DisplayName("Should ask staff to reload when the missed deltas are not available")
+    void testStaffStream_ResetsUnknownLastEventId() throws Exception {
+        serviceRequestService.createServiceRequest(createDTO());
+
+        MvcResult result = mockMvc.perform(get("/api/staff/requests/events").header("Last-Event-ID", "42"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> result.getResponse().getContentAsString().contains("event:reset"));
+        assertThat(result.getResponse().getContentAsString())
+            .contains("event:reset", "id:1")
+            .doesNotContain("event:delta");
+    }
+
+    private ServiceRequestDTO createDTO() {
+        ServiceRequestDTO dto = new ServiceRequestDTO();
+        dto.setMunicipalityCode("LISB01");
+        dto.setMunicipalityName("Lisboa");
+        dto.setCitizenName("João Silva");
+        dto.setCitizenEmail("joao@example.com");
+        dto.setCitizenPhone("912345678");
+        dto.setPickupAddress("Rua Example, 123, Lisboa");
+        dto.setItemDescription("Old refrigerator and washing machine");
+        dto.setPreferredDate(LocalDate.now().plusDays(5));
+        dto.setPreferredTimeSlot(TimeSlot.MORNING);
+        return dto;
+    }
+}
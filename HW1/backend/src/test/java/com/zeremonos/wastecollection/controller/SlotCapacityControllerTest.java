@@ -0,0 +1,99 @@
+package com.zeremonos.wastecollection.controller;
+
+import com.zeremonos.wastecollection.dto.SlotCapacityDTO;
+import com.zeremonos.wastecollection.exception.ResourceNotFoundException;
+import com.zeremonos.wastecollection.model.TimeSlot;
+import com.zeremonos.wastecollection.service.SlotCapacityService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SlotCapacityController.class)
+class SlotCapacityControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SlotCapacityService slotCapacityService;
+
+    @Test
+    void testGetConfiguredCapacities_Success() throws Exception {
+        when(slotCapacityService.getConfiguredCapacities())
+                .thenReturn(List.of(new SlotCapacityDTO("Lisboa", TimeSlot.MORNING, 4)));
+
+        mockMvc.perform(get("/api/staff/capacities"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].municipalityName", is("Lisboa")))
+                .andExpect(jsonPath("$[0].timeSlot", is("MORNING")))
+                .andExpect(jsonPath("$[0].capacity", is(4)));
+    }
+
+    @Test
+    void testGetCapacities_Success() throws Exception {
+        when(slotCapacityService.getCapacities("Lisboa"))
+                .thenReturn(Map.of(TimeSlot.MORNING, 4, TimeSlot.AFTERNOON, 10, TimeSlot.EVENING, 10));
+
+        mockMvc.perform(get("/api/staff/capacities/Lisboa"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.MORNING", is(4)))
+                .andExpect(jsonPath("$.EVENING", is(10)));
+    }
+
+    @Test
+    void testSetCapacity_Success() throws Exception {
+        when(slotCapacityService.setCapacity("Lisboa", TimeSlot.EVENING, 2))
+                .thenReturn(new SlotCapacityDTO("Lisboa", TimeSlot.EVENING, 2));
+
+        mockMvc.perform(put("/api/staff/capacities/Lisboa/EVENING")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"capacity\": 2}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.capacity", is(2)));
+    }
+
+    @Test
+    void testSetCapacity_Negative_Returns400() throws Exception {
+        mockMvc.perform(put("/api/staff/capacities/Lisboa/EVENING")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"capacity\": -1}"))
+                .andExpect(status().isBadRequest());
+
+        verify(slotCapacityService, never()).setCapacity(anyString(), any(), anyInt());
+    }
+
+    @Test
+    void testRemoveCapacity_NotConfigured_Returns404() throws Exception {
+        doThrow(new ResourceNotFoundException("No capacity configured for slot MORNING in Porto"))
+                .when(slotCapacityService).removeCapacity("Porto", TimeSlot.MORNING);
+
+        mockMvc.perform(delete("/api/staff/capacities/Porto/MORNING"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testReload_ReturnsConfiguredCount() throws Exception {
+        when(slotCapacityService.reload()).thenReturn(3);
+
+        mockMvc.perform(post("/api/staff/capacities/reload"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.configured", is(3)));
+    }
+}
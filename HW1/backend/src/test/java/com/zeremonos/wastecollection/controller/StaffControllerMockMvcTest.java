@@ -1,11 +1,13 @@
 package com.zeremonos.wastecollection.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zeremonos.wastecollection.dto.BulkStatusUpdateRequest;
 import com.zeremonos.wastecollection.dto.UpdateStatusRequest;
 import com.zeremonos.wastecollection.model.RequestStatus;
 import com.zeremonos.wastecollection.model.ServiceRequest;
 import com.zeremonos.wastecollection.model.TimeSlot;
 import com.zeremonos.wastecollection.repository.ServiceRequestRepository;
+import com.zeremonos.wastecollection.repository.StatusHistoryRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,10 +16,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -37,6 +43,9 @@ class StaffControllerMockMvcTest {
     @Autowired
     private ServiceRequestRepository serviceRequestRepository;
 
+    @Autowired
+    private StatusHistoryRepository statusHistoryRepository;
+
     @BeforeEach
     void setUp() {
         serviceRequestRepository.deleteAll();
@@ -324,6 +333,173 @@ class StaffControllerMockMvcTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("Should list requests without history, token or contact details")
+    void testGetAllRequests_ReturnsSummaries() throws Exception {
+        createRequest("Lisboa", RequestStatus.RECEIVED);
+
+        mockMvc.perform(get("/api/staff/requests"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].citizenName").value("Test Citizen"))
+                .andExpect(jsonPath("$[0].pickupAddress").value("Test Address, 123"))
+                .andExpect(jsonPath("$[0].statusHistory").doesNotExist())
+                .andExpect(jsonPath("$[0].token").doesNotExist())
+                .andExpect(jsonPath("$[0].citizenEmail").doesNotExist())
+                .andExpect(jsonPath("$[0].citizenPhone").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should page through requests with a cursor")
+    void testGetRequestsPage_FollowsCursor() throws Exception {
+        createRequest("Lisboa", RequestStatus.RECEIVED);
+        createRequest("Porto", RequestStatus.ASSIGNED);
+        createRequest("Braga", RequestStatus.COMPLETED);
+
+        String body = mockMvc.perform(get("/api/staff/requests/page").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/staff/requests/page").param("size", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should filter paged requests by municipality")
+    void testGetRequestsPage_WithMunicipalityFilter_Returns200() throws Exception {
+        createRequest("Lisboa", RequestStatus.RECEIVED);
+        createRequest("Porto", RequestStatus.ASSIGNED);
+
+        mockMvc.perform(get("/api/staff/requests/page").param("municipality", "Porto"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].municipalityName").value("Porto"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for a malformed cursor")
+    void testGetRequestsPage_InvalidCursor_Returns400() throws Exception {
+        mockMvc.perform(get("/api/staff/requests/page").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return 409 when the update carries an outdated version")
+    void testUpdateStatus_StaleVersion_Returns409() throws Exception {
+        ServiceRequest request = createRequest("Lisboa", RequestStatus.RECEIVED);
+
+        UpdateStatusRequest updateRequest = new UpdateStatusRequest(
+            RequestStatus.ASSIGNED, null, request.getVersion() + 1);
+
+        mockMvc.perform(put("/api/staff/requests/{id}/status", request.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409));
+    }
+
+    @Test
+    @DisplayName("Should apply valid bulk transitions and report the rejected ones")
+    void testBulkUpdateStatus_MixedItems_Returns200() throws Exception {
+        ServiceRequest received = createRequest("Lisboa", RequestStatus.RECEIVED);
+        ServiceRequest inProgress = createRequest("Porto", RequestStatus.IN_PROGRESS);
+        ServiceRequest completed = createRequest("Braga", RequestStatus.COMPLETED);
+
+        BulkStatusUpdateRequest bulkRequest = new BulkStatusUpdateRequest(List.of(
+            new BulkStatusUpdateRequest.Item(received.getId(), RequestStatus.ASSIGNED, "Team A"),
+            new BulkStatusUpdateRequest.Item(inProgress.getId(), RequestStatus.COMPLETED, "Done"),
+            new BulkStatusUpdateRequest.Item(completed.getId(), RequestStatus.ASSIGNED, null),
+            new BulkStatusUpdateRequest.Item(999999L, RequestStatus.ASSIGNED, null)
+        ));
+
+        mockMvc.perform(put("/api/staff/requests/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(bulkRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.results[0].success").value(true))
+                .andExpect(jsonPath("$.results[0].previousStatus").value("RECEIVED"))
+                .andExpect(jsonPath("$.results[1].success").value(true))
+                .andExpect(jsonPath("$.results[2].success").value(false))
+                .andExpect(jsonPath("$.results[2].error").value(containsString("completed request")))
+                .andExpect(jsonPath("$.results[3].success").value(false))
+                .andExpect(jsonPath("$.results[3].error").value(containsString("not found")));
+
+        assertThat(serviceRequestRepository.findSummariesByMunicipalityName("Lisboa").get(0).getStatus())
+            .isEqualTo(RequestStatus.ASSIGNED);
+        assertThat(serviceRequestRepository.findSummariesByMunicipalityName("Porto").get(0).getStatus())
+            .isEqualTo(RequestStatus.COMPLETED);
+        assertThat(statusHistoryRepository.findByServiceRequestIdOrderByTimestampDesc(received.getId()))
+            .extracting(history -> history.getNotes())
+            .containsExactly("Team A");
+    }
+
+    @Test
+    @DisplayName("Should reject the same request twice in one bulk update")
+    void testBulkUpdateStatus_DuplicateItem_ReportsFailure() throws Exception {
+        ServiceRequest received = createRequest("Lisboa", RequestStatus.RECEIVED);
+
+        BulkStatusUpdateRequest bulkRequest = new BulkStatusUpdateRequest(List.of(
+            new BulkStatusUpdateRequest.Item(received.getId(), RequestStatus.ASSIGNED, null),
+            new BulkStatusUpdateRequest.Item(received.getId(), RequestStatus.CANCELLED, null)
+        ));
+
+        mockMvc.perform(put("/api/staff/requests/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(bulkRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.results[1].error").value(containsString("more than once")));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for an empty bulk update")
+    void testBulkUpdateStatus_NoItems_Returns400() throws Exception {
+        mockMvc.perform(put("/api/staff/requests/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"items\": []}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should reject exports in an unsupported format")
+    void testExportRequests_UnsupportedFormat_Returns400() throws Exception {
+        mockMvc.perform(get("/api/staff/requests/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("Unsupported export format")));
+    }
+
+    @Test
+    @DisplayName("Should stream exports with the export timeout instead of a global one")
+    void testExportRequests_UsesExportTimeout() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/staff/requests/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult();
+
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(10).toMillis());
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(startsWith("id,")));
+    }
+
+    @Test
+    @DisplayName("Should reject exports with an inverted date range")
+    void testExportRequests_InvertedDateRange_Returns400() throws Exception {
+        mockMvc.perform(get("/api/staff/requests/export")
+                .param("from", LocalDate.now().plusDays(10).toString())
+                .param("to", LocalDate.now().plusDays(1).toString()))
+                .andExpect(status().isBadRequest());
+    }
+
     private ServiceRequest createRequest(String municipality, RequestStatus status) {
         ServiceRequest request = new ServiceRequest();
         request.setMunicipalityCode("CODE");
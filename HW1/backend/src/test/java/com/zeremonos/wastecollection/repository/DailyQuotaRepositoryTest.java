@@ -0,0 +1,96 @@
+package com.zeremonos.wastecollection.repository;
+
+import com.zeremonos.wastecollection.model.DailyQuota;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+class DailyQuotaRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DailyQuotaRepository repository;
+
+    private LocalDate quotaDate;
+
+    @BeforeEach
+    void setUp() {
+        quotaDate = LocalDate.now().plusDays(5);
+        entityManager.persistAndFlush(new DailyQuota("Lisboa", quotaDate, 9));
+    }
+
+    @Test
+    void testTryReserve_BelowLimit() {
+        int updated = repository.tryReserve("Lisboa", quotaDate, 10);
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(reservedCount("Lisboa")).isEqualTo(10);
+    }
+
+    @Test
+    void testTryReserve_AtLimit() {
+        repository.tryReserve("Lisboa", quotaDate, 10);
+
+        int updated = repository.tryReserve("Lisboa", quotaDate, 10);
+
+        assertThat(updated).isZero();
+        assertThat(reservedCount("Lisboa")).isEqualTo(10);
+    }
+
+    @Test
+    void testTryReserve_CounterNotInitialised() {
+        int updated = repository.tryReserve("Porto", quotaDate, 10);
+
+        assertThat(updated).isZero();
+        assertThat(repository.existsByMunicipalityNameAndQuotaDate("Porto", quotaDate)).isFalse();
+    }
+
+    @Test
+    void testFindByMunicipalityNameAndQuotaDateBetween() {
+        entityManager.persistAndFlush(new DailyQuota("Lisboa", quotaDate.plusDays(1), 2));
+        entityManager.persistAndFlush(new DailyQuota("Lisboa", quotaDate.plusDays(10), 4));
+        entityManager.persistAndFlush(new DailyQuota("Porto", quotaDate, 7));
+
+        List<DailyQuota> quotas = repository.findByMunicipalityNameAndQuotaDateBetween(
+            "Lisboa", quotaDate, quotaDate.plusDays(9));
+
+        assertThat(quotas).extracting(DailyQuota::getQuotaDate, DailyQuota::getReservedCount)
+            .containsExactlyInAnyOrder(tuple(quotaDate, 9), tuple(quotaDate.plusDays(1), 2));
+    }
+
+    @Test
+    void testRelease() {
+        int updated = repository.release("Lisboa", quotaDate);
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(reservedCount("Lisboa")).isEqualTo(8);
+    }
+
+    @Test
+    void testRelease_NeverBelowZero() {
+        entityManager.persistAndFlush(new DailyQuota("Porto", quotaDate, 0));
+
+        int updated = repository.release("Porto", quotaDate);
+
+        assertThat(updated).isZero();
+        assertThat(reservedCount("Porto")).isZero();
+    }
+
+    private int reservedCount(String municipalityName) {
+        entityManager.clear();
+        return repository.findByMunicipalityNameAndQuotaDate(municipalityName, quotaDate)
+            .orElseThrow()
+            .getReservedCount();
+    }
+}
@@ -0,0 +1,113 @@
+package com.zeremonos.wastecollection.repository;
+
+import com.zeremonos.wastecollection.model.RequestStatus;
+import com.zeremonos.wastecollection.model.ServiceRequest;
+import com.zeremonos.wastecollection.model.TimeSlot;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures insert throughput of service requests plus their initial history row with JDBC
+ * batching disabled (batch size 1, one round trip per row as with IDENTITY keys) and enabled.
+ * Not part of the regular test run; execute with {@code mvn test -Dtest=InsertBatchingBenchmark}.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:benchmarkdb;DB_CLOSE_DELAY=-1",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "logging.level.org.hibernate.SQL=WARN",
+    "logging.level.org.hibernate.orm.jdbc.bind=WARN",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+    "logging.level.com.zeremonos.wastecollection=INFO"
+})
+@Slf4j
+@DisplayName("Insert batching benchmark")
+class InsertBatchingBenchmark {
+
+    private static final int ROWS = 5_000;
+    private static final int FLUSH_INTERVAL = 500;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ServiceRequestRepository serviceRequestRepository;
+
+    @Test
+    @DisplayName("Compare rows per second with and without JDBC insert batching")
+    void compareBatchSizes() {
+        // Warm up the JIT, connection pool and sequence pools before measuring
+        insertRows(1);
+        insertRows(50);
+
+        Result unbatched = insertRows(1);
+        Result batched = insertRows(50);
+
+        log.info("Batch size  1: {} rows/s, {} statements prepared", unbatched.rowsPerSecond(), unbatched.statements());
+        log.info("Batch size 50: {} rows/s, {} statements prepared", batched.rowsPerSecond(), batched.statements());
+        log.info("Speed-up: {}x", String.format("%.2f", (double) batched.rowsPerSecond() / unbatched.rowsPerSecond()));
+
+        assertThat(serviceRequestRepository.count()).isEqualTo(4L * ROWS);
+        assertThat(batched.statements()).isLessThan(unbatched.statements());
+    }
+
+    private Result insertRows(int batchSize) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long start = System.nanoTime();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            for (int i = 0; i < ROWS; i++) {
+                ServiceRequest request = newRequest(i);
+                request.addStatusChange(null, RequestStatus.RECEIVED, "Initial request created");
+                entityManager.persist(request);
+                if ((i + 1) % FLUSH_INTERVAL == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return new Result(Math.round(2 * ROWS / seconds), statistics.getPrepareStatementCount());
+    }
+
+    private ServiceRequest newRequest(int i) {
+        ServiceRequest request = new ServiceRequest();
+        request.setMunicipalityCode("1106");
+        request.setMunicipalityName("Lisboa");
+        request.setCitizenName("Citizen " + i);
+        request.setCitizenEmail("citizen@example.com");
+        request.setCitizenPhone("912345678");
+        request.setPickupAddress("Rua Example, 123, Lisboa");
+        request.setItemDescription("Old refrigerator and washing machine");
+        request.setPreferredDate(LocalDate.now().plusDays(1 + i % 30));
+        request.setPreferredTimeSlot(TimeSlot.MORNING);
+        return request;
+    }
+
+    private record Result(long rowsPerSecond, long statements) {}
+}
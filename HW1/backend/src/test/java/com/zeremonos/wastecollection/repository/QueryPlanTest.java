@@ -0,0 +1,84 @@
+package com.zeremonos.wastecollection.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks with H2's EXPLAIN that the hot query shapes are answered from the declared indexes
+ * rather than by scanning the whole table.
+ */
+@DataJpaTest
+@DisplayName("Query plans - Index usage")
+class QueryPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Active request count for the daily quota uses the municipality/date/status index")
+    void testActiveCountPlan() {
+        String plan = explain("SELECT COUNT(*) FROM service_requests " +
+            "WHERE municipality_name = 'Lisboa' AND preferred_date = DATE '2030-01-01' " +
+            "AND status NOT IN ('CANCELLED', 'COMPLETED')");
+
+        assertThat(plan).containsIgnoringCase("IDX_SERVICE_REQUESTS_MUNICIPALITY_DATE_STATUS");
+    }
+
+    @Test
+    @DisplayName("Dashboard listing by municipality uses the municipality/created index")
+    void testMunicipalityListingPlan() {
+        String plan = explain("SELECT id FROM service_requests WHERE municipality_name = 'Lisboa' " +
+            "ORDER BY created_at DESC, id DESC FETCH FIRST 51 ROWS ONLY");
+
+        assertThat(plan).containsIgnoringCase("IDX_SERVICE_REQUESTS_MUNICIPALITY_CREATED");
+    }
+
+    @Test
+    @DisplayName("Keyset page over all requests uses the created index")
+    void testKeysetPagePlan() {
+        String plan = explain("SELECT id FROM service_requests " +
+            "WHERE created_at < TIMESTAMP '2030-01-01 10:00:00' " +
+            "ORDER BY created_at DESC, id DESC FETCH FIRST 51 ROWS ONLY");
+
+        assertThat(plan).containsIgnoringCase("IDX_SERVICE_REQUESTS_CREATED");
+    }
+
+    @Test
+    @DisplayName("Change feed over all requests uses the updated index")
+    void testChangeFeedPlan() {
+        String plan = explain("SELECT id FROM service_requests " +
+            "WHERE (updated_at > TIMESTAMP '2030-01-01 10:00:00' " +
+            "OR (updated_at = TIMESTAMP '2030-01-01 10:00:00' AND id > 5)) " +
+            "ORDER BY updated_at, id FETCH FIRST 51 ROWS ONLY");
+
+        assertThat(plan).containsIgnoringCase("IDX_SERVICE_REQUESTS_UPDATED");
+    }
+
+    @Test
+    @DisplayName("Change feed by municipality uses the municipality/updated index")
+    void testMunicipalityChangeFeedPlan() {
+        String plan = explain("SELECT id FROM service_requests WHERE municipality_name = 'Lisboa' " +
+            "AND (updated_at > TIMESTAMP '2030-01-01 10:00:00' " +
+            "OR (updated_at = TIMESTAMP '2030-01-01 10:00:00' AND id > 5)) " +
+            "ORDER BY updated_at, id FETCH FIRST 51 ROWS ONLY");
+
+        assertThat(plan).containsIgnoringCase("IDX_SERVICE_REQUESTS_MUNICIPALITY_UPDATED");
+    }
+
+    @Test
+    @DisplayName("Status history of a request uses the request/timestamp index")
+    void testStatusHistoryPlan() {
+        String plan = explain("SELECT id FROM status_history WHERE service_request_id = 1 ORDER BY timestamp DESC");
+
+        assertThat(plan).containsIgnoringCase("IDX_STATUS_HISTORY_REQUEST_TIMESTAMP");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+}
@@ -1,21 +1,27 @@
 package com.zeremonos.wastecollection.repository;
 
+import com.zeremonos.wastecollection.dto.ServiceRequestSummary;
+import com.zeremonos.wastecollection.dto.StatusCount;
 import com.zeremonos.wastecollection.model.RequestStatus;
 import com.zeremonos.wastecollection.model.ServiceRequest;
 import com.zeremonos.wastecollection.model.TimeSlot;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class ServiceRequestRepositoryTest {
 
     @Autowired
@@ -62,6 +68,25 @@ class ServiceRequestRepositoryTest {
         assertThat(found.get().getCitizenName()).isEqualTo("João Silva");
     }
 
+    @Test
+    void testFindWithHistoryByToken_SingleQuery() {
+        serviceRequest1.updateStatus(RequestStatus.ASSIGNED, "Assigned to team A");
+        serviceRequest1.updateStatus(RequestStatus.IN_PROGRESS, "Team on the way");
+        serviceRequest1.getStatusHistory().get(0).setTimestamp(LocalDateTime.now().minusHours(1));
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        ServiceRequest found = repository.findWithHistoryByToken(serviceRequest1.getToken()).orElseThrow();
+
+        assertThat(found.getStatusHistory())
+            .extracting(history -> history.getNewStatus())
+            .containsExactly(RequestStatus.IN_PROGRESS, RequestStatus.ASSIGNED);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
     @Test
     void testFindByToken_NotFound() {
         Optional<ServiceRequest> found = repository.findByToken("non-existent-token");
@@ -141,5 +166,151 @@ class ServiceRequestRepositoryTest {
         
         assertThat(count).isZero();
     }
-}
 
+    @Test
+    void testFindFirstPage() {
+        List<ServiceRequestSummary> requests = repository.findFirstPage(Limit.of(1));
+
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).getId()).isEqualTo(serviceRequest2.getId());
+    }
+
+    @Test
+    void testFindPageAfter() {
+        List<ServiceRequestSummary> requests = repository.findPageAfter(
+            serviceRequest2.getCreatedAt(), serviceRequest2.getId(), Limit.of(10));
+
+        assertThat(requests).extracting(ServiceRequestSummary::getId).containsExactly(serviceRequest1.getId());
+    }
+
+    @Test
+    void testFindPageAfter_SameCreatedAt_UsesIdAsTieBreaker() {
+        List<ServiceRequestSummary> requests = repository.findPageAfter(
+            serviceRequest1.getCreatedAt(), serviceRequest1.getId(), Limit.of(10));
+
+        assertThat(requests).isEmpty();
+    }
+
+    @Test
+    void testFindFirstPageByMunicipality() {
+        List<ServiceRequestSummary> requests = repository.findFirstPageByMunicipality("Lisboa", Limit.of(10));
+
+        assertThat(requests).extracting(ServiceRequestSummary::getId).containsExactly(serviceRequest1.getId());
+    }
+
+    @Test
+    void testFindPageAfterByMunicipality() {
+        List<ServiceRequestSummary> requests = repository.findPageAfterByMunicipality(
+            "Porto", serviceRequest2.getCreatedAt(), serviceRequest2.getId(), Limit.of(10));
+
+        assertThat(requests).isEmpty();
+    }
+
+    @Test
+    void testFindChangesAfter_OrderedByLastChange() {
+        LocalDateTime now = LocalDateTime.now();
+        repository.compareAndSetStatus(serviceRequest1.getId(), RequestStatus.RECEIVED,
+            RequestStatus.ASSIGNED, null, now.plusSeconds(1));
+
+        List<ServiceRequestSummary> changes = repository.findChangesAfter(
+            LocalDateTime.of(1970, 1, 1, 0, 0), 0L, Limit.of(10));
+
+        assertThat(changes).extracting(ServiceRequestSummary::getId)
+            .containsExactly(serviceRequest2.getId(), serviceRequest1.getId());
+        assertThat(changes.get(1).getStatus()).isEqualTo(RequestStatus.ASSIGNED);
+    }
+
+    @Test
+    void testFindChangesAfter_SkipsSeenChanges() {
+        LocalDateTime now = LocalDateTime.now();
+        repository.compareAndSetStatus(serviceRequest1.getId(), RequestStatus.RECEIVED,
+            RequestStatus.ASSIGNED, null, now.minusMinutes(5));
+        ServiceRequest seen = repository.findById(serviceRequest2.getId()).orElseThrow();
+
+        List<ServiceRequestSummary> changes = repository.findChangesAfter(
+            seen.getUpdatedAt(), seen.getId(), Limit.of(10));
+
+        assertThat(changes).isEmpty();
+    }
+
+    @Test
+    void testFindChangesAfterByMunicipality() {
+        List<ServiceRequestSummary> changes = repository.findChangesAfterByMunicipality(
+            "Porto", LocalDateTime.of(1970, 1, 1, 0, 0), 0L, Limit.of(10));
+
+        assertThat(changes).extracting(ServiceRequestSummary::getId).containsExactly(serviceRequest2.getId());
+    }
+
+    @Test
+    void testCountByMunicipalityAndStatus() {
+        repository.compareAndSetStatus(serviceRequest2.getId(), RequestStatus.RECEIVED,
+            RequestStatus.ASSIGNED, null, LocalDateTime.now());
+
+        List<StatusCount> counts = repository.countByMunicipalityAndStatus();
+
+        assertThat(counts).containsExactlyInAnyOrder(
+            new StatusCount("Lisboa", RequestStatus.RECEIVED, 1),
+            new StatusCount("Porto", RequestStatus.ASSIGNED, 1));
+    }
+
+    @Test
+    void testFindAllSummaries_SingleQueryWithoutHistory() {
+        serviceRequest1.updateStatus(RequestStatus.ASSIGNED, "Assigned to team A");
+        serviceRequest2.updateStatus(RequestStatus.ASSIGNED, "Assigned to team B");
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        List<ServiceRequestSummary> summaries = repository.findAllSummaries();
+
+        assertThat(summaries).extracting(ServiceRequestSummary::getId)
+            .containsExactly(serviceRequest2.getId(), serviceRequest1.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    void testFindSummariesByMunicipalityName() {
+        List<ServiceRequestSummary> summaries = repository.findSummariesByMunicipalityName("Porto");
+
+        assertThat(summaries).hasSize(1);
+        assertThat(summaries.get(0).getCitizenName()).isEqualTo("Maria Santos");
+        assertThat(summaries.get(0).getStatus()).isEqualTo(RequestStatus.RECEIVED);
+    }
+
+    @Test
+    void testCompareAndSetStatus_MatchingStatus() {
+        int updated = repository.compareAndSetStatus(serviceRequest1.getId(), RequestStatus.RECEIVED,
+            RequestStatus.ASSIGNED, null, LocalDateTime.now());
+
+        ServiceRequest reloaded = repository.findById(serviceRequest1.getId()).orElseThrow();
+        assertThat(updated).isEqualTo(1);
+        assertThat(reloaded.getStatus()).isEqualTo(RequestStatus.ASSIGNED);
+        assertThat(reloaded.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void testCompareAndSetStatus_StatusChanged() {
+        int updated = repository.compareAndSetStatus(serviceRequest1.getId(), RequestStatus.ASSIGNED,
+            RequestStatus.IN_PROGRESS, null, LocalDateTime.now());
+
+        assertThat(updated).isZero();
+        assertThat(repository.findById(serviceRequest1.getId()).orElseThrow().getStatus())
+            .isEqualTo(RequestStatus.RECEIVED);
+    }
+
+    @Test
+    void testCompareAndSetStatus_StaleVersion() {
+        int updated = repository.compareAndSetStatus(serviceRequest1.getId(), RequestStatus.RECEIVED,
+            RequestStatus.ASSIGNED, 7L, LocalDateTime.now());
+
+        assertThat(updated).isZero();
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManager().getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+    }
+}
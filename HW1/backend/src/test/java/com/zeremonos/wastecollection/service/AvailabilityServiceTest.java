@@ -0,0 +1,179 @@
+package com.zeremonos.wastecollection.service;
+
+import com.zeremonos.wastecollection.dto.DateAvailability;
+import com.zeremonos.wastecollection.exception.BusinessException;
+import com.zeremonos.wastecollection.exception.ResourceNotFoundException;
+import com.zeremonos.wastecollection.model.TimeSlot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AvailabilityService - Capacity Calendar Tests")
+class AvailabilityServiceTest {
+
+    @Mock
+    private DailyQuotaService dailyQuotaService;
+
+    @Mock
+    private MunicipalityService municipalityService;
+
+    @Mock
+    private SlotCapacityService slotCapacityService;
+
+    @InjectMocks
+    private AvailabilityService availabilityService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(availabilityService, "maxRequestsPerMunicipalityPerDay", 10);
+        ReflectionTestUtils.setField(availabilityService, "defaultDays", 30);
+        ReflectionTestUtils.setField(availabilityService, "maxDays", 90);
+        lenient().when(municipalityService.getDictionary())
+            .thenReturn(MunicipalityDictionary.of(List.of("Lisboa", "Porto")));
+        lenient().when(municipalityService.resolveName(anyString())).thenCallRealMethod();
+        lenient().when(slotCapacityService.getCapacities(anyString()))
+            .thenReturn(Map.of(TimeSlot.MORNING, 10, TimeSlot.AFTERNOON, 10, TimeSlot.EVENING, 10));
+    }
+
+    @Test
+    @DisplayName("Should return the remaining capacity of every date from tomorrow")
+    void testGetAvailability_RemainingPerDate() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        when(dailyQuotaService.getReservedCounts("Lisboa", tomorrow, tomorrow.plusDays(2)))
+            .thenReturn(Map.of(tomorrow, 4, tomorrow.plusDays(2), 12));
+
+        List<DateAvailability> availability = availabilityService.getAvailability("Lisboa", 3);
+
+        assertThat(availability).extracting(DateAvailability::date)
+            .containsExactly(tomorrow, tomorrow.plusDays(1), tomorrow.plusDays(2));
+        assertThat(availability).extracting(DateAvailability::remaining).containsExactly(6, 10, 0);
+        assertThat(availability.get(0).slots())
+            .containsOnlyKeys(TimeSlot.values())
+            .containsEntry(TimeSlot.MORNING, 6);
+    }
+
+    @Test
+    @DisplayName("Should bound every slot by its own capacity and by what is left of the day")
+    void testGetAvailability_SlotCapacities() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        when(slotCapacityService.getCapacities("Lisboa"))
+            .thenReturn(Map.of(TimeSlot.MORNING, 4, TimeSlot.AFTERNOON, 5, TimeSlot.EVENING, 2));
+        when(dailyQuotaService.getReservedCounts("Lisboa", tomorrow, tomorrow.plusDays(1)))
+            .thenReturn(Map.of(tomorrow, 4, tomorrow.plusDays(1), 7));
+        when(dailyQuotaService.getReservedSlotCounts("Lisboa", tomorrow, tomorrow.plusDays(1)))
+            .thenReturn(Map.of(
+                tomorrow, Map.of(TimeSlot.MORNING, 4),
+                tomorrow.plusDays(1), Map.of(TimeSlot.MORNING, 1, TimeSlot.AFTERNOON, 4, TimeSlot.EVENING, 2)));
+
+        List<DateAvailability> availability = availabilityService.getAvailability("Lisboa", 2);
+
+        assertThat(availability.get(0).slots())
+            .containsEntry(TimeSlot.MORNING, 0)
+            .containsEntry(TimeSlot.AFTERNOON, 5)
+            .containsEntry(TimeSlot.EVENING, 2);
+        assertThat(availability.get(0).remaining()).isEqualTo(6);
+        // Four places left across the slots, but only three in the whole day
+        assertThat(availability.get(1).slots())
+            .containsEntry(TimeSlot.MORNING, 3)
+            .containsEntry(TimeSlot.AFTERNOON, 1)
+            .containsEntry(TimeSlot.EVENING, 0);
+        assertThat(availability.get(1).remaining()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should count the active requests of dates and slots without a counter")
+    void testGetAvailability_MissingCounters() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        when(dailyQuotaService.getReservedCounts("Lisboa", tomorrow, tomorrow.plusDays(1)))
+            .thenReturn(Map.of(tomorrow.plusDays(1), 2));
+        when(dailyQuotaService.getReservedSlotCounts("Lisboa", tomorrow, tomorrow.plusDays(1)))
+            .thenReturn(Map.of(tomorrow.plusDays(1), Map.of(TimeSlot.MORNING, 2)));
+        when(dailyQuotaService.countActiveRequests("Lisboa", tomorrow, tomorrow.plusDays(1)))
+            .thenReturn(Map.of(
+                tomorrow, Map.of(TimeSlot.MORNING, 3, TimeSlot.AFTERNOON, 2),
+                tomorrow.plusDays(1), Map.of(TimeSlot.MORNING, 2, TimeSlot.EVENING, 9)));
+
+        List<DateAvailability> availability = availabilityService.getAvailability("Lisboa", 2);
+
+        assertThat(availability).extracting(DateAvailability::remaining).containsExactly(5, 8);
+        assertThat(availability.get(0).slots())
+            .containsEntry(TimeSlot.MORNING, 5)
+            .containsEntry(TimeSlot.AFTERNOON, 5)
+            .containsEntry(TimeSlot.EVENING, 5);
+        // The counters that exist win over the count
+        assertThat(availability.get(1).slots())
+            .containsEntry(TimeSlot.MORNING, 8)
+            .containsEntry(TimeSlot.EVENING, 1);
+    }
+
+    @Test
+    @DisplayName("Should not count requests when every counter of the range exists")
+    void testGetAvailability_CountersComplete() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        when(dailyQuotaService.getReservedCounts("Lisboa", tomorrow, tomorrow)).thenReturn(Map.of(tomorrow, 3));
+        when(dailyQuotaService.getReservedSlotCounts("Lisboa", tomorrow, tomorrow))
+            .thenReturn(Map.of(tomorrow, Map.of(TimeSlot.MORNING, 1, TimeSlot.AFTERNOON, 2, TimeSlot.EVENING, 0)));
+
+        List<DateAvailability> availability = availabilityService.getAvailability("Lisboa", 1);
+
+        assertThat(availability.get(0).remaining()).isEqualTo(7);
+        verify(dailyQuotaService, never()).countActiveRequests(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should look counters up under the canonical municipality name")
+    void testGetAvailability_CanonicalName() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        when(dailyQuotaService.getReservedCounts("Lisboa", tomorrow, tomorrow.plusDays(29))).thenReturn(Map.of());
+
+        List<DateAvailability> availability = availabilityService.getAvailability("lisboa", null);
+
+        assertThat(availability).hasSize(30);
+        verify(dailyQuotaService).getReservedCounts("Lisboa", tomorrow, tomorrow.plusDays(29));
+    }
+
+    @Test
+    @DisplayName("Should cap the number of days at the configured maximum")
+    void testGetAvailability_DaysCapped() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        when(dailyQuotaService.getReservedCounts("Porto", tomorrow, tomorrow.plusDays(89))).thenReturn(Map.of());
+
+        assertThat(availabilityService.getAvailability("Porto", 1000)).hasSize(90);
+    }
+
+    @Test
+    @DisplayName("Should reject a municipality missing from the dictionary")
+    void testGetAvailability_UnknownMunicipality() {
+        assertThatThrownBy(() -> availabilityService.getAvailability("Atlantis", 7))
+            .isInstanceOf(ResourceNotFoundException.class)
+            .hasMessageContaining("Atlantis");
+        verifyNoInteractions(dailyQuotaService);
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive number of days")
+    void testGetAvailability_InvalidDays() {
+        assertThatThrownBy(() -> availabilityService.getAvailability("Lisboa", 0))
+            .isInstanceOf(BusinessException.class);
+    }
+}
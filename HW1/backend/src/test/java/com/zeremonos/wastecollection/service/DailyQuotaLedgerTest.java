@@ -0,0 +1,124 @@
+package com.zeremonos.wastecollection.service;
+
+import com.zeremonos.wastecollection.model.DailyQuota;
+import com.zeremonos.wastecollection.repository.DailyQuotaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DailyQuotaLedger - In-memory Quota Tests")
+class DailyQuotaLedgerTest {
+
+    @Mock
+    private DailyQuotaRepository dailyQuotaRepository;
+
+    private DailyQuotaLedger ledger;
+    private LocalDate quotaDate;
+
+    @BeforeEach
+    void setUp() {
+        ledger = new DailyQuotaLedger(dailyQuotaRepository, Duration.ofMinutes(1));
+        quotaDate = LocalDate.now().plusDays(5);
+    }
+
+    @Test
+    @DisplayName("Should not report unknown days as exhausted")
+    void testIsExhausted_UnknownDay() {
+        assertThat(ledger.isExhausted("Lisboa", quotaDate, 10)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should report day as exhausted once the committed count reaches the limit")
+    void testIsExhausted_AtLimit() {
+        ledger.recordCommittedCount("Lisboa", quotaDate, 10);
+
+        assertThat(ledger.isExhausted("Lisboa", quotaDate, 10)).isTrue();
+        assertThat(ledger.isExhausted("Lisboa", quotaDate, 11)).isFalse();
+        assertThat(ledger.isExhausted("Porto", quotaDate, 10)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should apply releases and reservations to known days")
+    void testApplyAfterCommit_OutsideTransaction() {
+        ledger.recordCommittedCount("Lisboa", quotaDate, 10);
+
+        ledger.applyAfterCommit("Lisboa", quotaDate, -1);
+        assertThat(ledger.isExhausted("Lisboa", quotaDate, 10)).isFalse();
+
+        ledger.applyAfterCommit("Lisboa", quotaDate, 1);
+        assertThat(ledger.isExhausted("Lisboa", quotaDate, 10)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should exclude uncommitted reservations from counts read inside a transaction")
+    void testRecordCountSeenByTransaction_ExcludesPendingDeltas() {
+        ledger.recordCommittedCount("Lisboa", quotaDate, 9);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            ledger.applyAfterCommit("Lisboa", quotaDate, 1);
+            ledger.recordCountSeenByTransaction("Lisboa", quotaDate, 10);
+
+            assertThat(ledger.isExhausted("Lisboa", quotaDate, 10)).isFalse();
+        } finally {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ledger);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should fall back to the database once the verified count is too old")
+    void testIsExhausted_VerificationExpired() {
+        ledger = new DailyQuotaLedger(dailyQuotaRepository, Duration.ZERO);
+        ledger.recordCommittedCount("Lisboa", quotaDate, 10);
+
+        assertThat(ledger.isExhausted("Lisboa", quotaDate, 10)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should warm up from persisted counters")
+    void testWarmUp() {
+        when(dailyQuotaRepository.findByQuotaDateGreaterThanEqual(any()))
+            .thenReturn(List.of(new DailyQuota("Lisboa", quotaDate, 10), new DailyQuota("Porto", quotaDate, 3)));
+
+        ledger.warmUp();
+
+        assertThat(ledger.isExhausted("Lisboa", quotaDate, 10)).isTrue();
+        assertThat(ledger.isExhausted("Porto", quotaDate, 10)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not keep counters of past days")
+    void testRecordCommittedCount_PastDayIgnored() {
+        ledger.recordCommittedCount("Lisboa", LocalDate.now().minusDays(1), 10);
+
+        assertThat(ledger.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict counters once their day has passed")
+    void testEvictBefore_DropsPastDays() {
+        ledger.recordCommittedCount("Lisboa", quotaDate, 10);
+        ledger.recordCommittedCount("Lisboa", quotaDate.plusDays(1), 4);
+        ledger.recordCommittedCount("Porto", quotaDate.plusDays(2), 7);
+
+        // As seen the day after quotaDate
+        ledger.evictBefore(quotaDate.plusDays(1));
+
+        assertThat(ledger.size()).isEqualTo(2);
+        assertThat(ledger.isExhausted("Lisboa", quotaDate, 10)).isFalse();
+        assertThat(ledger.isExhausted("Lisboa", quotaDate.plusDays(1), 4)).isTrue();
+    }
+}
@@ -0,0 +1,274 @@
+package com.zeremonos.wastecollection.service;
+
+import com.zeremonos.wastecollection.dto.DateAvailability;
+import com.zeremonos.wastecollection.dto.ServiceRequestDTO;
+import com.zeremonos.wastecollection.dto.ServiceRequestResponse;
+import com.zeremonos.wastecollection.exception.BusinessException;
+import com.zeremonos.wastecollection.model.RequestStatus;
+import com.zeremonos.wastecollection.model.TimeSlot;
+import com.zeremonos.wastecollection.repository.DailyQuotaRepository;
+import com.zeremonos.wastecollection.repository.ServiceRequestRepository;
+import com.zeremonos.wastecollection.repository.SlotCapacityRepository;
+import com.zeremonos.wastecollection.repository.SlotQuotaRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:quotadb;DB_CLOSE_DELAY=-1",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "app.max-requests-per-municipality-per-day=10",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("DailyQuotaService - Concurrency Tests")
+class DailyQuotaServiceTest {
+
+    private static final int CONCURRENT_REQUESTS = 25;
+
+    @Autowired
+    private ServiceRequestService serviceRequestService;
+
+    @Autowired
+    private ServiceRequestRepository serviceRequestRepository;
+
+    @Autowired
+    private DailyQuotaRepository dailyQuotaRepository;
+
+    @Autowired
+    private SlotQuotaRepository slotQuotaRepository;
+
+    @Autowired
+    private SlotCapacityRepository slotCapacityRepository;
+
+    @Autowired
+    private SlotCapacityService slotCapacityService;
+
+    @Autowired
+    private AvailabilityService availabilityService;
+
+    @Autowired
+    private DailyQuotaLedger dailyQuotaLedger;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private LocalDate preferredDate;
+
+    @BeforeEach
+    void setUp() {
+        preferredDate = LocalDate.now().plusDays(5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        serviceRequestRepository.deleteAll();
+        dailyQuotaRepository.deleteAll();
+        slotQuotaRepository.deleteAll();
+        slotCapacityRepository.deleteAll();
+        // The context is shared by the tests, so drop the in-memory state along with the tables
+        slotCapacityService.reload();
+        dailyQuotaLedger.clear();
+    }
+
+    @Test
+    @DisplayName("Should never exceed the daily limit under concurrent creates")
+    void testConcurrentCreates_LimitHolds() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            ServiceRequestDTO dto = createDTO("Citizen " + i);
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    serviceRequestService.createServiceRequest(dto);
+                    return true;
+                } catch (BusinessException e) {
+                    return false;
+                }
+            }));
+        }
+
+        start.countDown();
+        int created = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(30, TimeUnit.SECONDS)) {
+                created++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(created).isEqualTo(10);
+        assertThat(serviceRequestRepository.countActiveRequestsByMunicipalityAndDate("Lisboa", preferredDate))
+            .isEqualTo(10L);
+        assertThat(reservedCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should never exceed the slot capacity under concurrent creates, nor keep the day reserved")
+    void testConcurrentCreates_SlotCapacityHolds() throws Exception {
+        slotCapacityService.setCapacity("Lisboa", TimeSlot.MORNING, 3);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            ServiceRequestDTO dto = createDTO("Citizen " + i);
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    serviceRequestService.createServiceRequest(dto);
+                    return true;
+                } catch (BusinessException e) {
+                    return false;
+                }
+            }));
+        }
+
+        start.countDown();
+        int created = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(30, TimeUnit.SECONDS)) {
+                created++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(created).isEqualTo(3);
+        assertThat(reservedCount()).isEqualTo(3);
+
+        ServiceRequestDTO afternoon = createDTO("Afternoon Citizen");
+        afternoon.setPreferredTimeSlot(TimeSlot.AFTERNOON);
+        assertThat(serviceRequestService.createServiceRequest(afternoon).getToken()).isNotNull();
+        assertThat(reservedCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should reopen a full slot when one of its requests is cancelled")
+    void testFullSlot_CancelReopensSlot() {
+        slotCapacityService.setCapacity("Lisboa", TimeSlot.MORNING, 1);
+        ServiceRequestResponse first = serviceRequestService.createServiceRequest(createDTO("First Citizen"));
+        assertThatThrownBy(() -> serviceRequestService.createServiceRequest(createDTO("Second Citizen")))
+            .isInstanceOf(BusinessException.class)
+            .hasMessageContaining("Time slot MORNING is full");
+
+        serviceRequestService.cancelByToken(first.getToken());
+
+        assertThat(serviceRequestService.createServiceRequest(createDTO("Second Citizen")).getToken()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should release capacity when a request is cancelled")
+    void testCancel_ReleasesCapacity() {
+        ServiceRequestResponse first = serviceRequestService.createServiceRequest(createDTO("First Citizen"));
+        serviceRequestService.createServiceRequest(createDTO("Second Citizen"));
+        assertThat(reservedCount()).isEqualTo(2);
+
+        serviceRequestService.cancelByToken(first.getToken());
+
+        assertThat(reservedCount()).isEqualTo(1);
+        assertThat(serviceRequestRepository.findByToken(first.getToken()).orElseThrow().getStatus())
+            .isEqualTo(RequestStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("Should reject creates for a full day without running SQL")
+    void testFullDay_RejectedFromLedger() {
+        for (int i = 0; i < 10; i++) {
+            serviceRequestService.createServiceRequest(createDTO("Citizen " + i));
+        }
+        // The first rejection goes to the database and records the full day in the ledger
+        assertThatThrownBy(() -> serviceRequestService.createServiceRequest(createDTO("Citizen 10")))
+            .isInstanceOf(BusinessException.class);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertThatThrownBy(() -> serviceRequestService.createServiceRequest(createDTO("Citizen 11")))
+            .isInstanceOf(BusinessException.class)
+            .hasMessageContaining("Daily limit reached");
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should accept creates again after a cancellation frees a full day")
+    void testFullDay_CancelReopensCapacity() {
+        ServiceRequestResponse first = serviceRequestService.createServiceRequest(createDTO("Citizen 0"));
+        for (int i = 1; i < 10; i++) {
+            serviceRequestService.createServiceRequest(createDTO("Citizen " + i));
+        }
+        assertThatThrownBy(() -> serviceRequestService.createServiceRequest(createDTO("Citizen 10")))
+            .isInstanceOf(BusinessException.class);
+
+        serviceRequestService.cancelByToken(first.getToken());
+
+        assertThat(serviceRequestService.createServiceRequest(createDTO("Citizen 10")).getToken()).isNotNull();
+        assertThat(reservedCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should count the requests of dates whose counters were never seeded")
+    void testAvailability_CountsRequestsWithoutCounters() {
+        ServiceRequestResponse first = serviceRequestService.createServiceRequest(createDTO("First Citizen"));
+        serviceRequestService.createServiceRequest(createDTO("Second Citizen"));
+        serviceRequestService.createServiceRequest(createDTO("Third Citizen"));
+        serviceRequestService.cancelByToken(first.getToken());
+        // As for requests made before the counters existed
+        slotQuotaRepository.deleteAll();
+        dailyQuotaRepository.deleteAll();
+
+        List<DateAvailability> availability = availabilityService.getAvailability("Lisboa", 5);
+
+        DateAvailability date = availability.get(4);
+        assertThat(date.date()).isEqualTo(preferredDate);
+        assertThat(date.remaining()).isEqualTo(8);
+        assertThat(date.slots())
+            .containsEntry(TimeSlot.MORNING, 8)
+            .containsEntry(TimeSlot.AFTERNOON, 8);
+        assertThat(availability.get(0).remaining()).isEqualTo(10);
+    }
+
+    private int reservedCount() {
+        return dailyQuotaRepository.findByMunicipalityNameAndQuotaDate("Lisboa", preferredDate)
+            .orElseThrow()
+            .getReservedCount();
+    }
+
+    private ServiceRequestDTO createDTO(String citizenName) {
+        ServiceRequestDTO dto = new ServiceRequestDTO();
+        dto.setMunicipalityCode("1106");
+        dto.setMunicipalityName("Lisboa");
+        dto.setCitizenName(citizenName);
+        dto.setCitizenEmail("citizen@example.com");
+        dto.setCitizenPhone("912345678");
+        dto.setPickupAddress("Rua Example, 123, Lisboa");
+        dto.setItemDescription("Old refrigerator and washing machine");
+        dto.setPreferredDate(preferredDate);
+        dto.setPreferredTimeSlot(TimeSlot.MORNING);
+        return dto;
+    }
+}
@@ -0,0 +1,121 @@
+package com.zeremonos.wastecollection.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("EventStreamSender - Queued Delivery Tests")
+class EventStreamSenderTest {
+
+    private final EventStreamSender sender = new EventStreamSender(2);
+    private final CountDownLatch connectionStalled = new CountDownLatch(1);
+    private final RecordingEmitter emitter = new RecordingEmitter();
+
+    @AfterEach
+    void tearDown() {
+        connectionStalled.countDown();
+        sender.destroy();
+    }
+
+    @Test
+    @DisplayName("Should queue events without waiting for a stalled connection, then write them in order")
+    void testSend_DoesNotBlockOnStalledConnection() {
+        emitter.stall = true;
+        EventStreamSender.Channel channel = sender.open(emitter, 10, closed -> { });
+
+        long start = System.nanoTime();
+        for (int i = 1; i <= 5; i++) {
+            assertThat(channel.send(SseEmitter.event().id(String.valueOf(i)).data(i))).isTrue();
+        }
+        channel.complete();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        assertThat(emitter.written).isEmpty();
+
+        connectionStalled.countDown();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> emitter.completed.get() == 1);
+        assertThat(emitter.written).containsExactly("1", "2", "3", "4", "5");
+    }
+
+    @Test
+    @DisplayName("Should drop a subscriber whose queue overflows")
+    void testSend_OverflowClosesChannel() {
+        emitter.stall = true;
+        AtomicInteger closedCount = new AtomicInteger();
+        EventStreamSender.Channel channel = sender.open(emitter, 2, closed -> closedCount.incrementAndGet());
+
+        // The first event is taken by the stalled send, the next two fill the queue
+        channel.send(SseEmitter.event().id("1").data(1));
+        await().atMost(Duration.ofSeconds(5)).until(() -> emitter.sendAttempts.get() == 1);
+        channel.send(SseEmitter.event().id("2").data(2));
+        channel.send(SseEmitter.event().id("3").data(3));
+
+        assertThat(channel.send(SseEmitter.event().id("4").data(4))).isFalse();
+        assertThat(channel.send(SseEmitter.event().id("5").data(5))).isFalse();
+        assertThat(closedCount).hasValue(1);
+
+        connectionStalled.countDown();
+        await().atMost(Duration.ofSeconds(5)).until(() -> emitter.completed.get() == 1);
+        assertThat(emitter.written).containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("Should forget a subscriber whose connection failed")
+    void testSend_FailedWriteClosesChannel() {
+        emitter.fail = true;
+        AtomicInteger closedCount = new AtomicInteger();
+        EventStreamSender.Channel channel = sender.open(emitter, 10, closed -> closedCount.incrementAndGet());
+
+        channel.send(SseEmitter.event().id("1").data(1));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> closedCount.get() == 1);
+        assertThat(channel.send(SseEmitter.event().id("2").data(2))).isFalse();
+    }
+
+    private class RecordingEmitter extends SseEmitter {
+
+        private final List<String> written = new CopyOnWriteArrayList<>();
+        private final AtomicInteger sendAttempts = new AtomicInteger();
+        private final AtomicInteger completed = new AtomicInteger();
+        private volatile boolean stall;
+        private volatile boolean fail;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sendAttempts.incrementAndGet();
+            if (fail) {
+                throw new IOException("Broken pipe");
+            }
+            if (stall) {
+                try {
+                    connectionStalled.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            String id = builder.build().stream()
+                .map(part -> String.valueOf(part.getData()))
+                .filter(line -> line.startsWith("id:"))
+                .findFirst()
+                .orElseThrow();
+            written.add(id.substring(3, id.indexOf('\n')));
+        }
+
+        @Override
+        public void complete() {
+            completed.incrementAndGet();
+        }
+    }
+}
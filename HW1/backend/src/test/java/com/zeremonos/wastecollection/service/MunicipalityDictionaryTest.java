@@ -0,0 +1,85 @@
+package com.zeremonos.wastecollection.service;
+
+import com.zeremonos.wastecollection.dto.MunicipalityDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MunicipalityDictionary - Code and Lookup Tests")
+class MunicipalityDictionaryTest {
+
+    @Test
+    @DisplayName("Should give distinct codes to names whose legacy codes collide")
+    void testOf_CollidingCodesAreProbed() {
+        // Both hash to the VILA90 code of the previous per-name scheme
+        MunicipalityDictionary dictionary = MunicipalityDictionary.of(
+            List.of("Vila Nova de Poiares", "Vila Nova da Barquinha"));
+
+        assertThat(dictionary.municipalities())
+            .extracting(MunicipalityDTO::getCode)
+            .containsExactlyInAnyOrder("VILA90", "VILA91");
+        assertThat(dictionary.findByName("Vila Nova da Barquinha")).get()
+            .extracting(MunicipalityDTO::getCode).isEqualTo("VILA90");
+    }
+
+    @Test
+    @DisplayName("Should assign the same codes whatever the order of the names")
+    void testOf_CodesAreStable() {
+        MunicipalityDictionary first = MunicipalityDictionary.of(
+            List.of("Vila Nova de Poiares", "Vila Nova da Barquinha", "Lisboa"));
+        MunicipalityDictionary second = MunicipalityDictionary.of(
+            List.of("Lisboa", "Vila Nova da Barquinha", "Vila Nova de Poiares"));
+
+        for (MunicipalityDTO municipality : first.municipalities()) {
+            assertThat(second.findByName(municipality.getName())).contains(municipality);
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the order of the source list")
+    void testMunicipalities_KeepsSourceOrder() {
+        MunicipalityDictionary dictionary = MunicipalityDictionary.of(List.of("Porto", "Braga", "Lisboa"));
+
+        assertThat(dictionary.municipalities())
+            .extracting(MunicipalityDTO::getName)
+            .containsExactly("Porto", "Braga", "Lisboa");
+    }
+
+    @Test
+    @DisplayName("Should find municipalities by code and by name ignoring case and accents")
+    void testLookups() {
+        MunicipalityDictionary dictionary = MunicipalityDictionary.of(List.of("Évora", "Lisboa"));
+        MunicipalityDTO evora = dictionary.findByName("Évora").orElseThrow();
+
+        assertThat(dictionary.findByName(" EVORA ")).contains(evora);
+        assertThat(dictionary.findByCode(evora.getCode().toLowerCase())).contains(evora);
+        assertThat(dictionary.findByName("Faro")).isEmpty();
+        assertThat(dictionary.findByCode(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should resolve by name before code")
+    void testResolve_NameWins() {
+        MunicipalityDictionary dictionary = MunicipalityDictionary.of(List.of("Lisboa", "Porto"));
+        MunicipalityDTO porto = dictionary.findByName("Porto").orElseThrow();
+        String lisboaCode = dictionary.findByName("Lisboa").orElseThrow().getCode();
+
+        assertThat(dictionary.resolve(lisboaCode, "Porto")).contains(porto);
+        assertThat(dictionary.resolve(porto.getCode(), "Unknown")).contains(porto);
+        assertThat(dictionary.resolve("NONE00", "Unknown")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should version the content so equal lists share a version")
+    void testVersion() {
+        String version = MunicipalityDictionary.of(List.of("Lisboa", "Porto")).version();
+
+        assertThat(version).isNotBlank();
+        assertThat(MunicipalityDictionary.of(List.of("Lisboa", "Porto")).version()).isEqualTo(version);
+        assertThat(MunicipalityDictionary.of(List.of("Lisboa", "Porto", "Braga")).version()).isNotEqualTo(version);
+        assertThat(MunicipalityDictionary.EMPTY.version()).isNull();
+    }
+}
@@ -7,9 +7,19 @@ import com.zeremonos.wastecollection.dto.MunicipalityDTO;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -118,5 +128,223 @@ class MunicipalityServiceTest {
             municipalityService.getAllMunicipalities();
         });
     }
-}
 
+    @Test
+    void testGetAllMunicipalities_ServedFromMemoryAfterFirstFetch() throws Exception {
+        stubMunicipalities("Lisboa", "Porto");
+
+        municipalityService.getAllMunicipalities();
+        List<MunicipalityDTO> result = municipalityService.getAllMunicipalities();
+
+        assertThat(result).extracting(MunicipalityDTO::getName).containsExactly("Lisboa", "Porto");
+        verify(1, getRequestedFor(urlEqualTo("/municipios")));
+    }
+
+    @Test
+    void testGetAllMunicipalities_RefreshAheadReplacesList() throws Exception {
+        municipalityService = refreshingOnEveryCall();
+        stubMunicipalities("Lisboa", "Porto");
+        municipalityService.getAllMunicipalities();
+
+        stubMunicipalities("Lisboa", "Porto", "Braga");
+
+        // The stale list is returned right away while the refresh runs in the background
+        assertThat(municipalityService.getAllMunicipalities()).hasSize(2);
+        assertThat(waitForSize(3)).hasSize(3);
+    }
+
+    @Test
+    void testGetAllMunicipalities_ServesLastGoodListWhenApiFails() throws Exception {
+        municipalityService = refreshingOnEveryCall();
+        stubMunicipalities("Lisboa", "Porto");
+        municipalityService.getAllMunicipalities();
+
+        stubFor(get(urlEqualTo("/municipios"))
+                .willReturn(aResponse()
+                        .withStatus(500)
+                        .withBody("Internal Server Error")));
+
+        assertThat(municipalityService.getAllMunicipalities()).hasSize(2);
+        waitForRequests(2);
+        assertThat(municipalityService.getAllMunicipalities())
+                .extracting(MunicipalityDTO::getName)
+                .containsExactly("Lisboa", "Porto");
+    }
+
+    @Test
+    void testGetAllMunicipalities_ConcurrentColdCallsShareOneFetch() throws Exception {
+        stubFor(get(urlEqualTo("/municipios"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(objectMapper.writeValueAsString(new String[]{"Lisboa", "Porto", "Braga"}))
+                        .withFixedDelay(500)));
+
+        int callers = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<MunicipalityDTO>>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return municipalityService.getAllMunicipalities();
+            }));
+        }
+
+        start.countDown();
+        for (Future<List<MunicipalityDTO>> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).hasSize(3);
+        }
+        executor.shutdown();
+
+        verify(1, getRequestedFor(urlEqualTo("/municipios")));
+    }
+
+    @Test
+    void testGetAllMunicipalities_FetchRetriedAfterSharedFailure() throws Exception {
+        stubFor(get(urlEqualTo("/municipios"))
+                .willReturn(aResponse()
+                        .withStatus(500)
+                        .withBody("Internal Server Error")));
+
+        assertThrows(RuntimeException.class, () -> municipalityService.getAllMunicipalities());
+
+        stubMunicipalities("Lisboa", "Porto");
+
+        assertThat(municipalityService.getAllMunicipalities()).hasSize(2);
+        verify(2, getRequestedFor(urlEqualTo("/municipios")));
+    }
+
+    @Test
+    void testGetAllMunicipalities_WarmStartFromSnapshotWithoutNetwork(@TempDir Path directory) throws Exception {
+        Path snapshot = directory.resolve("municipalities.json");
+        municipalityService = withSnapshot(snapshot);
+        stubMunicipalities("Lisboa", "Porto");
+        municipalityService.getAllMunicipalities();
+        waitForFile(snapshot);
+
+        // Nothing listens on the discard port, so the restarted instance has no GeoAPI.pt to reach
+        MunicipalityService restarted = withSnapshot(snapshot, "http://localhost:9");
+
+        assertThat(restarted.getAllMunicipalities())
+                .extracting(MunicipalityDTO::getName)
+                .containsExactly("Lisboa", "Porto");
+    }
+
+    @Test
+    void testGetAllMunicipalities_RevalidatesSnapshotWithConditionalGet(@TempDir Path directory) throws Exception {
+        Path snapshot = directory.resolve("municipalities.json");
+        stubFor(get(urlEqualTo("/municipios"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withHeader("ETag", "\"v1\"")
+                        .withBody(objectMapper.writeValueAsString(new String[]{"Lisboa", "Porto"}))));
+        withSnapshot(snapshot).getAllMunicipalities();
+        waitForFile(snapshot);
+
+        stubFor(get(urlEqualTo("/municipios"))
+                .withHeader("If-None-Match", equalTo("\"v1\""))
+                .willReturn(aResponse().withStatus(304)));
+        municipalityService = withSnapshot(snapshot);
+
+        assertThat(municipalityService.getAllMunicipalities()).hasSize(2);
+        waitForRequests(2);
+        verify(getRequestedFor(urlEqualTo("/municipios")).withHeader("If-None-Match", equalTo("\"v1\"")));
+        assertThat(municipalityService.getAllMunicipalities())
+                .extracting(MunicipalityDTO::getName)
+                .containsExactly("Lisboa", "Porto");
+    }
+
+    @Test
+    void testGetAllMunicipalitiesAsync_ColdCallsShareOneFetch() throws Exception {
+        stubMunicipalities("Lisboa", "Porto");
+
+        List<MunicipalityDTO> first = municipalityService.getAllMunicipalitiesAsync()
+                .zipWith(municipalityService.getAllMunicipalitiesAsync(), (a, b) -> a)
+                .block(Duration.ofSeconds(10));
+
+        assertThat(first).extracting(MunicipalityDTO::getName).containsExactly("Lisboa", "Porto");
+        verify(1, getRequestedFor(urlEqualTo("/municipios")));
+    }
+
+    @Test
+    void testGetAllMunicipalitiesAsync_ServedFromSnapshot() throws Exception {
+        stubMunicipalities("Lisboa", "Porto");
+        municipalityService.getAllMunicipalities();
+
+        assertThat(municipalityService.getAllMunicipalitiesAsync().block()).hasSize(2);
+        verify(1, getRequestedFor(urlEqualTo("/municipios")));
+    }
+
+    @Test
+    void testGetAllMunicipalitiesAsync_ApiError() {
+        stubFor(get(urlEqualTo("/municipios"))
+                .willReturn(aResponse()
+                        .withStatus(500)
+                        .withBody("Internal Server Error")));
+
+        assertThrows(RuntimeException.class, () -> municipalityService.getAllMunicipalitiesAsync().block());
+    }
+
+    @Test
+    void testSearchMunicipalities_FetchesOnceAndMatchesWordStarts() throws Exception {
+        stubMunicipalities("Lisboa", "Vila Nova de Gaia", "Gavião");
+
+        assertThat(municipalityService.searchMunicipalities("ga", 10))
+                .extracting(MunicipalityDTO::getName)
+                .containsExactly("Gavião", "Vila Nova de Gaia");
+        assertThat(municipalityService.searchMunicipalities("LIS", 10)).hasSize(1);
+        verify(1, getRequestedFor(urlEqualTo("/municipios")));
+    }
+
+    private MunicipalityService refreshingOnEveryCall() {
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost:8089")
+                .build();
+        return new MunicipalityService(webClient, Duration.ZERO, Duration.ofSeconds(10));
+    }
+
+    private MunicipalityService withSnapshot(Path snapshot) {
+        return withSnapshot(snapshot, "http://localhost:8089");
+    }
+
+    private MunicipalityService withSnapshot(Path snapshot, String baseUrl) {
+        WebClient webClient = WebClient.builder()
+                .baseUrl(baseUrl)
+                .build();
+        return new MunicipalityService(webClient, Duration.ofHours(6), Duration.ofSeconds(10), snapshot.toString());
+    }
+
+    private void waitForFile(Path file) throws InterruptedException {
+        for (int attempt = 0; attempt < 50 && !Files.exists(file); attempt++) {
+            Thread.sleep(100);
+        }
+    }
+
+    private void stubMunicipalities(String... names) throws Exception {
+        stubFor(get(urlEqualTo("/municipios"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(objectMapper.writeValueAsString(names))));
+    }
+
+    private List<MunicipalityDTO> waitForSize(int size) throws InterruptedException {
+        List<MunicipalityDTO> result = municipalityService.getAllMunicipalities();
+        for (int attempt = 0; attempt < 50 && result.size() != size; attempt++) {
+            Thread.sleep(100);
+            result = municipalityService.getAllMunicipalities();
+        }
+        return result;
+    }
+
+    private void waitForRequests(int count) throws InterruptedException {
+        for (int attempt = 0; attempt < 50
+                && wireMockServer.findAll(getRequestedFor(urlEqualTo("/municipios"))).size() < count; attempt++) {
+            Thread.sleep(100);
+        }
+        // Give the failed refresh a moment to complete after the request was received
+        Thread.sleep(200);
+    }
+}
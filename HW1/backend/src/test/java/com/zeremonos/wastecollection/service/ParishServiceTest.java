@@ -0,0 +1,71 @@
+package com.zeremonos.wastecollection.service;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.zeremonos.wastecollection.dto.ParishDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParishServiceTest {
+
+    private WireMockServer wireMockServer;
+    private ParishService parishService;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer = new WireMockServer(8089);
+        wireMockServer.start();
+        WireMock.configureFor("localhost", 8089);
+
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost:8089")
+                .build();
+
+        parishService = new ParishService(webClient);
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void testSearchParishes_Success() {
+        stubFor(get(urlEqualTo("/freguesias"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("""
+                                [{"freguesia": "Santa Maria Maior", "municipio": "Lisboa"},
+                                 {"freguesia": "Santo António", "municipio": "Lisboa"},
+                                 {"freguesia": "Bonfim", "municipio": "Porto"},
+                                 "Sé",
+                                 {"unexpected": true}]""")));
+
+        List<ParishDTO> result = parishService.searchParishes("sant", 10);
+
+        assertThat(result).extracting(ParishDTO::getName).containsExactly("Santa Maria Maior", "Santo António");
+        assertThat(result.get(0).getMunicipalityName()).isEqualTo("Lisboa");
+        assertThat(parishService.searchParishes("se", 10)).extracting(ParishDTO::getName).containsExactly("Sé");
+        assertThat(parishService.searchParishes("maior", 10)).hasSize(1);
+        verify(1, getRequestedFor(urlEqualTo("/freguesias")));
+    }
+
+    @Test
+    void testSearchParishes_ApiError() {
+        stubFor(get(urlEqualTo("/freguesias"))
+                .willReturn(aResponse()
+                        .withStatus(500)
+                        .withBody("Internal Server Error")));
+
+        assertThrows(RuntimeException.class, () -> parishService.searchParishes("sant", 10));
+    }
+}
@@ -0,0 +1,60 @@
+package com.zeremonos.wastecollection.service;
+
+import com.zeremonos.wastecollection.dto.MunicipalityDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PrefixIndex - Autocomplete Tests")
+class PrefixIndexTest {
+
+    private final PrefixIndex<MunicipalityDTO> index = new PrefixIndex<>(List.of(
+        municipality("Vila Nova de Gaia"),
+        municipality("Gavião"),
+        municipality("Évora"),
+        municipality("Lisboa"),
+        municipality("Vila Real de Santo António"),
+        municipality("Santo Tirso")
+    ), MunicipalityDTO::getName);
+
+    @Test
+    @DisplayName("Should match the start of any word, ranking whole-name matches first")
+    void testSearch_WordStarts() {
+        assertThat(names(index.search("ga", 10))).containsExactly("Gavião", "Vila Nova de Gaia");
+        assertThat(names(index.search("santo", 10))).containsExactly("Santo Tirso", "Vila Real de Santo António");
+    }
+
+    @Test
+    @DisplayName("Should ignore case and accents in both query and names")
+    void testSearch_AccentInsensitive() {
+        assertThat(names(index.search("EVO", 10))).containsExactly("Évora");
+        assertThat(names(index.search("gaviã", 10))).containsExactly("Gavião");
+        assertThat(names(index.search("antonio", 10))).containsExactly("Vila Real de Santo António");
+    }
+
+    @Test
+    @DisplayName("Should return each item once and respect the limit")
+    void testSearch_Limit() {
+        assertThat(names(index.search("v", 10))).containsExactly("Vila Nova de Gaia", "Vila Real de Santo António");
+        assertThat(index.search("v", 1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should return nothing for blank or unmatched queries")
+    void testSearch_NoMatches() {
+        assertThat(index.search("  ", 10)).isEmpty();
+        assertThat(index.search(null, 10)).isEmpty();
+        assertThat(index.search("porto", 10)).isEmpty();
+    }
+
+    private static MunicipalityDTO municipality(String name) {
+        return new MunicipalityDTO(name, null);
+    }
+
+    private static List<String> names(List<MunicipalityDTO> municipalities) {
+        return municipalities.stream().map(MunicipalityDTO::getName).toList();
+    }
+}
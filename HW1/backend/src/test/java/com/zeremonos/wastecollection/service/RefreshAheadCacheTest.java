@@ -0,0 +1,82 @@
+package com.zeremonos.wastecollection.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RefreshAheadCache - Refresh and Coalescing Tests")
+class RefreshAheadCacheTest {
+
+    @Test
+    @DisplayName("Should share one fetch between callers on a cold cache")
+    void testGet_ColdCallersShareOneFetch() {
+        AtomicInteger fetches = new AtomicInteger();
+        Sinks.One<String> response = Sinks.one();
+        RefreshAheadCache<String> cache = new RefreshAheadCache<>("names", Duration.ofHours(1), current -> {
+            fetches.incrementAndGet();
+            return response.asMono();
+        });
+
+        List<String> results = new CopyOnWriteArrayList<>();
+        cache.getAsync().subscribe(results::add);
+        cache.getAsync().subscribe(results::add);
+        response.tryEmitValue("Lisboa");
+
+        assertThat(results).containsExactly("Lisboa", "Lisboa");
+        assertThat(cache.get()).isEqualTo("Lisboa");
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should keep serving the last good value when a refresh fails")
+    void testGet_FailedRefreshKeepsValue() {
+        AtomicInteger fetches = new AtomicInteger();
+        RefreshAheadCache<String> cache = new RefreshAheadCache<>("names", Duration.ZERO, current ->
+            fetches.incrementAndGet() == 1 ? Mono.just("Lisboa") : Mono.error(new IllegalStateException("down")));
+
+        assertThat(cache.get()).isEqualTo("Lisboa");
+        assertThat(cache.get()).isEqualTo("Lisboa");
+        assertThat(cache.get()).isEqualTo("Lisboa");
+        assertThat(fetches.get()).isGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("Should stay cold after an empty fetch and pass the cached value to revalidations")
+    void testGet_EmptyFetchAndRevalidation() {
+        AtomicInteger fetches = new AtomicInteger();
+        StringBuilder seen = new StringBuilder();
+        RefreshAheadCache<String> cache = new RefreshAheadCache<>("names", Duration.ofHours(1), current -> {
+            seen.append(current).append(';');
+            return fetches.incrementAndGet() == 1 ? Mono.empty() : Mono.just("Porto");
+        });
+
+        assertThat(cache.get()).isNull();
+        assertThat(cache.peek()).isNull();
+        cache.preload("Lisboa");
+        // Preloaded values are due for revalidation right away
+        assertThat(cache.get()).isEqualTo("Lisboa");
+
+        assertThat(cache.peek()).isEqualTo("Porto");
+        assertThat(seen).hasToString("null;Lisboa;");
+    }
+
+    @Test
+    @DisplayName("Should report a failed fetch on a cold cache")
+    void testGet_ColdFetchFails() {
+        RefreshAheadCache<String> cache = new RefreshAheadCache<>("names", Duration.ofHours(1),
+            current -> Mono.error(new IllegalStateException("down")));
+
+        assertThatThrownBy(cache::get)
+            .isInstanceOf(RuntimeException.class)
+            .hasMessage("Failed to fetch names from external API");
+    }
+}
@@ -0,0 +1,91 @@
+package com.zeremonos.wastecollection.service;
+
+import com.zeremonos.wastecollection.dto.MunicipalityStatusSummary;
+import com.zeremonos.wastecollection.dto.RequestCreatedEvent;
+import com.zeremonos.wastecollection.dto.RequestStatusEvent;
+import com.zeremonos.wastecollection.dto.ServiceRequestSummary;
+import com.zeremonos.wastecollection.dto.StatusCount;
+import com.zeremonos.wastecollection.model.RequestStatus;
+import com.zeremonos.wastecollection.repository.ServiceRequestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RequestStatusCounters - Overview Count Tests")
+class RequestStatusCountersTest {
+
+    @Mock
+    private ServiceRequestRepository serviceRequestRepository;
+
+    private RequestStatusCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        when(serviceRequestRepository.countByMunicipalityAndStatus()).thenReturn(List.of(
+            new StatusCount("Porto", RequestStatus.RECEIVED, 3),
+            new StatusCount("Lisboa", RequestStatus.RECEIVED, 2),
+            new StatusCount("Lisboa", RequestStatus.COMPLETED, 5)
+        ));
+        counters = new RequestStatusCounters(serviceRequestRepository);
+        counters.afterSingletonsInstantiated();
+    }
+
+    @Test
+    @DisplayName("Should start from the grouped count, with every status present")
+    void testGetSummary_Loaded() {
+        List<MunicipalityStatusSummary> summary = counters.getSummary(null);
+
+        assertThat(summary).extracting(MunicipalityStatusSummary::municipalityName).containsExactly("Lisboa", "Porto");
+        assertThat(summary.get(0).counts())
+            .containsEntry(RequestStatus.RECEIVED, 2L)
+            .containsEntry(RequestStatus.ASSIGNED, 0L)
+            .containsEntry(RequestStatus.COMPLETED, 5L)
+            .hasSize(RequestStatus.values().length);
+        assertThat(summary.get(0).total()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should move counts with committed creations and transitions")
+    void testEvents_MoveCounts() {
+        counters.onRequestCreated(new RequestCreatedEvent(summary("Braga")));
+        counters.onStatusChanged(new RequestStatusEvent(1L, "Lisboa", RequestStatus.RECEIVED,
+            RequestStatus.ASSIGNED, 1L, LocalDateTime.now()));
+        counters.onStatusChanged(new RequestStatusEvent(2L, "Lisboa", RequestStatus.RECEIVED,
+            RequestStatus.CANCELLED, 1L, LocalDateTime.now()));
+
+        MunicipalityStatusSummary lisboa = counters.getSummary("Lisboa").get(0);
+        assertThat(lisboa.counts())
+            .containsEntry(RequestStatus.RECEIVED, 0L)
+            .containsEntry(RequestStatus.ASSIGNED, 1L)
+            .containsEntry(RequestStatus.CANCELLED, 1L);
+        assertThat(lisboa.total()).isEqualTo(7);
+        assertThat(counters.getSummary("Braga").get(0).counts()).containsEntry(RequestStatus.RECEIVED, 1L);
+    }
+
+    @Test
+    @DisplayName("Should return zero counts for a municipality without requests")
+    void testGetSummary_UnknownMunicipality() {
+        MunicipalityStatusSummary summary = counters.getSummary("Faro").get(0);
+
+        assertThat(summary.total()).isZero();
+        assertThat(summary.counts()).containsEntry(RequestStatus.RECEIVED, 0L);
+    }
+
+    private static ServiceRequestSummary summary(String municipalityName) {
+        ServiceRequestSummary summary = new ServiceRequestSummary();
+        summary.setId(10L);
+        summary.setMunicipalityName(municipalityName);
+        summary.setStatus(RequestStatus.RECEIVED);
+        return summary;
+    }
+}
@@ -0,0 +1,93 @@
+package com.zeremonos.wastecollection.service;
+
+import com.zeremonos.wastecollection.dto.RequestStatusEvent;
+import com.zeremonos.wastecollection.dto.RequestStatusResponse;
+import com.zeremonos.wastecollection.exception.SubscriberLimitException;
+import com.zeremonos.wastecollection.model.RequestStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RequestStatusNotifier - Subscription Tests")
+class RequestStatusNotifierTest {
+
+    @Test
+    @DisplayName("Should reject subscriptions beyond the configured limit")
+    void testSubscribe_LimitReached() {
+        RequestStatusNotifier notifier = new RequestStatusNotifier(new EventStreamSender(1), 2, Duration.ofMinutes(1));
+
+        notifier.subscribe(event(1L));
+        notifier.subscribe(event(2L));
+
+        assertThatThrownBy(() -> notifier.subscribe(event(1L)))
+            .isInstanceOf(SubscriberLimitException.class)
+            .hasMessageContaining("limit 2");
+        assertThat(notifier.getSubscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should ignore changes of requests nobody follows")
+    void testOnStatusChanged_NoSubscribers() {
+        RequestStatusNotifier notifier = new RequestStatusNotifier(new EventStreamSender(1), 2, Duration.ofMinutes(1));
+
+        notifier.onStatusChanged(event(1L));
+
+        assertThat(notifier.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should answer a poll right away when the client is behind")
+    void testAwaitChange_AlreadyChanged() {
+        RequestStatusNotifier notifier = new RequestStatusNotifier(new EventStreamSender(1), 2, Duration.ofMinutes(1));
+
+        DeferredResult<ResponseEntity<RequestStatusResponse>> result =
+            notifier.awaitChange(event(1L), 5L, () -> event(1L));
+
+        assertThat(result.getResult()).isEqualTo(ResponseEntity.ok()
+            .cacheControl(CacheControl.noStore())
+            .body(new RequestStatusResponse(RequestStatus.RECEIVED, 0)));
+        assertThat(notifier.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should answer a parked poll with the next change")
+    void testAwaitChange_ParkedUntilChange() {
+        RequestStatusNotifier notifier = new RequestStatusNotifier(new EventStreamSender(1), 2, Duration.ofMinutes(1));
+
+        DeferredResult<ResponseEntity<RequestStatusResponse>> result =
+            notifier.awaitChange(event(1L), 0L, () -> event(1L));
+        assertThat(result.hasResult()).isFalse();
+
+        notifier.onStatusChanged(new RequestStatusEvent(1L, "Lisboa", RequestStatus.RECEIVED,
+            RequestStatus.ASSIGNED, 1L, LocalDateTime.now()));
+
+        assertThat(result.getResult()).extracting(response -> ((ResponseEntity<?>) response).getBody())
+            .isEqualTo(new RequestStatusResponse(RequestStatus.ASSIGNED, 1));
+    }
+
+    @Test
+    @DisplayName("Should not park a poll for a change committed while registering")
+    void testAwaitChange_ChangedWhileRegistering() {
+        RequestStatusNotifier notifier = new RequestStatusNotifier(new EventStreamSender(1), 2, Duration.ofMinutes(1));
+        RequestStatusEvent changed = new RequestStatusEvent(1L, "Lisboa", RequestStatus.RECEIVED,
+            RequestStatus.ASSIGNED, 1L, LocalDateTime.now());
+
+        DeferredResult<ResponseEntity<RequestStatusResponse>> result =
+            notifier.awaitChange(event(1L), 0L, () -> changed);
+
+        assertThat(result.getResult()).extracting(response -> ((ResponseEntity<?>) response).getBody())
+            .isEqualTo(new RequestStatusResponse(RequestStatus.ASSIGNED, 1));
+    }
+
+    private static RequestStatusEvent event(Long requestId) {
+        return new RequestStatusEvent(requestId, "Lisboa", null, RequestStatus.RECEIVED, 0L, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,151 @@
+package com.zeremonos.wastecollection.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zeremonos.wastecollection.dto.ExportFilter;
+import com.zeremonos.wastecollection.dto.ExportFormat;
+import com.zeremonos.wastecollection.model.RequestStatus;
+import com.zeremonos.wastecollection.model.ServiceRequest;
+import com.zeremonos.wastecollection.model.TimeSlot;
+import com.zeremonos.wastecollection.repository.ServiceRequestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:exportdb;DB_CLOSE_DELAY=-1",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@DisplayName("ServiceRequestExportService - Streaming Export Tests")
+class ServiceRequestExportServiceTest {
+
+    @Autowired
+    private ServiceRequestExportService exportService;
+
+    @Autowired
+    private ServiceRequestRepository serviceRequestRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @AfterEach
+    void tearDown() {
+        serviceRequestRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should export every request as one JSON object per line")
+    void testExport_Ndjson_AllRequests() throws Exception {
+        createRequest("Lisboa", RequestStatus.RECEIVED, 5, "Old mattress");
+        createRequest("Porto", RequestStatus.ASSIGNED, 6, "Broken refrigerator");
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long exported = exportService.exportRequests(
+            new ExportFilter(null, null, null, null), ExportFormat.NDJSON, output);
+
+        List<String> lines = lines(output);
+        assertThat(exported).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("municipalityName").asText()).isEqualTo("Lisboa");
+        assertThat(first.has("statusHistory")).isFalse();
+        assertThat(first.has("citizenEmail")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should apply municipality, status and date range filters")
+    void testExport_Filters() throws Exception {
+        createRequest("Lisboa", RequestStatus.RECEIVED, 5, "Old mattress");
+        createRequest("Lisboa", RequestStatus.RECEIVED, 20, "Old sofa");
+        createRequest("Lisboa", RequestStatus.ASSIGNED, 5, "Old wardrobe");
+        createRequest("Porto", RequestStatus.RECEIVED, 5, "Broken refrigerator");
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ExportFilter filter = new ExportFilter("Lisboa", RequestStatus.RECEIVED,
+            LocalDate.now().plusDays(1), LocalDate.now().plusDays(10));
+        long exported = exportService.exportRequests(filter, ExportFormat.NDJSON, output);
+
+        assertThat(exported).isEqualTo(1);
+        assertThat(objectMapper.readTree(lines(output).get(0)).get("itemDescription").asText())
+            .isEqualTo("Old mattress");
+    }
+
+    @Test
+    @DisplayName("Should write a CSV header and quote values containing separators")
+    void testExport_Csv_Escaping() throws Exception {
+        createRequest("Lisboa", RequestStatus.RECEIVED, 5, "Sofa, chairs and a \"vintage\" lamp");
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        exportService.exportRequests(new ExportFilter(null, null, null, null), ExportFormat.CSV, output);
+
+        List<String> lines = lines(output);
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).startsWith("id,municipalityCode,municipalityName");
+        assertThat(lines.get(1)).contains("\"Sofa, chairs and a \"\"vintage\"\" lamp\"");
+    }
+
+    @Test
+    @DisplayName("Should stream the export through the staff endpoint")
+    void testExportEndpoint_Csv() throws Exception {
+        createRequest("Lisboa", RequestStatus.RECEIVED, 5, "Old mattress");
+        createRequest("Porto", RequestStatus.RECEIVED, 5, "Broken refrigerator");
+
+        MvcResult result = mockMvc.perform(get("/api/staff/requests/export")
+                .param("format", "csv")
+                .param("municipality", "Porto"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"service-requests.csv\""))
+            .andExpect(content().contentTypeCompatibleWith("text/csv"));
+
+        List<String> lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(1)).contains("Porto").contains("Broken refrigerator");
+    }
+
+    private List<String> lines(ByteArrayOutputStream output) {
+        return output.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    private void createRequest(String municipality, RequestStatus status, int daysAhead, String description) {
+        ServiceRequest request = new ServiceRequest();
+        request.setMunicipalityCode("CODE");
+        request.setMunicipalityName(municipality);
+        request.setCitizenName("Test Citizen");
+        request.setCitizenEmail("test@example.com");
+        request.setCitizenPhone("912345678");
+        request.setPickupAddress("Test Address, 123");
+        request.setItemDescription(description);
+        request.setPreferredDate(LocalDate.now().plusDays(daysAhead));
+        request.setPreferredTimeSlot(TimeSlot.MORNING);
+        request.setStatus(status);
+        serviceRequestRepository.save(request);
+    }
+}
@@ -1,9 +1,18 @@
 package com.zeremonos.wastecollection.service;
 
+import com.zeremonos.wastecollection.dto.BulkStatusUpdateRequest;
+import com.zeremonos.wastecollection.dto.BulkStatusUpdateResponse;
+import com.zeremonos.wastecollection.dto.CursorPage;
+import com.zeremonos.wastecollection.dto.RequestChange;
+import com.zeremonos.wastecollection.dto.RequestCreatedEvent;
+import com.zeremonos.wastecollection.dto.RequestCursor;
+import com.zeremonos.wastecollection.dto.RequestStatusEvent;
 import com.zeremonos.wastecollection.dto.ServiceRequestDTO;
 import com.zeremonos.wastecollection.dto.ServiceRequestResponse;
+import com.zeremonos.wastecollection.dto.ServiceRequestSummary;
 import com.zeremonos.wastecollection.dto.UpdateStatusRequest;
 import com.zeremonos.wastecollection.exception.BusinessException;
+import com.zeremonos.wastecollection.exception.ConcurrentUpdateException;
 import com.zeremonos.wastecollection.exception.ResourceNotFoundException;
 import com.zeremonos.wastecollection.model.RequestStatus;
 import com.zeremonos.wastecollection.model.ServiceRequest;
@@ -17,17 +26,28 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +60,21 @@ class ServiceRequestServiceTest {
     @Mock
     private StatusHistoryRepository statusHistoryRepository;
 
+    @Mock
+    private DailyQuotaService dailyQuotaService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private MunicipalityService municipalityService;
+
+    @Mock
+    private SlotCapacityService slotCapacityService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ServiceRequestService serviceRequestService;
 
@@ -48,6 +83,16 @@ class ServiceRequestServiceTest {
     @BeforeEach
     void setUp() {
         ReflectionTestUtils.setField(serviceRequestService, "maxRequestsPerMunicipalityPerDay", 10);
+        ReflectionTestUtils.setField(serviceRequestService, "defaultPageSize", 50);
+        ReflectionTestUtils.setField(serviceRequestService, "maxPageSize", 200);
+        ReflectionTestUtils.setField(serviceRequestService, "changesOverlap", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(serviceRequestService, "maxBulkItems", 500);
+        ReflectionTestUtils.setField(serviceRequestService, "bulkBatchSize", 50);
+        lenient().when(statusHistoryRepository.save(any()))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(municipalityService.getDictionary()).thenReturn(MunicipalityDictionary.EMPTY);
+        lenient().when(slotCapacityService.getCapacity(anyString(), any())).thenReturn(10);
+        lenient().when(dailyQuotaService.tryReserveSlot(anyString(), any(), any(), anyInt())).thenReturn(true);
 
         validDTO = new ServiceRequestDTO();
         validDTO.setMunicipalityCode("1106");
@@ -64,8 +109,8 @@ class ServiceRequestServiceTest {
     @Test
     @DisplayName("Should create service request successfully with valid data")
     void testCreateServiceRequest_Success() {
-        when(serviceRequestRepository.countActiveRequestsByMunicipalityAndDate(anyString(), any()))
-            .thenReturn(5L);
+        when(dailyQuotaService.tryReserve(anyString(), any(), anyInt()))
+            .thenReturn(true);
         
         ServiceRequest savedRequest = createMockServiceRequest();
         when(serviceRequestRepository.save(any(ServiceRequest.class)))
@@ -79,9 +124,11 @@ class ServiceRequestServiceTest {
         assertThat(response.getToken()).isNotNull();
         assertThat(response.getCitizenName()).isEqualTo("João Silva");
 
-        verify(serviceRequestRepository).countActiveRequestsByMunicipalityAndDate("Lisboa", validDTO.getPreferredDate());
+        verify(dailyQuotaService).tryReserve("Lisboa", validDTO.getPreferredDate(), 10);
+        verify(serviceRequestRepository, never()).countActiveRequestsByMunicipalityAndDate(anyString(), any());
         verify(serviceRequestRepository).save(any(ServiceRequest.class));
         verify(statusHistoryRepository).save(any());
+        verify(eventPublisher).publishEvent(new RequestCreatedEvent(ServiceRequestSummary.fromEntity(savedRequest)));
     }
 
     @Test
@@ -95,56 +142,103 @@ class ServiceRequestServiceTest {
 
         verify(serviceRequestRepository, never()).save(any());
         verify(statusHistoryRepository, never()).save(any());
+        verify(dailyQuotaService, never()).tryReserve(anyString(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should store the canonical municipality name and code from the dictionary")
+    void testCreateServiceRequest_NormalisesMunicipality() {
+        MunicipalityDictionary dictionary = MunicipalityDictionary.of(List.of("Lisboa", "Évora"));
+        when(municipalityService.getDictionary()).thenReturn(dictionary);
+        when(dailyQuotaService.tryReserve(anyString(), any(), anyInt())).thenReturn(true);
+        when(serviceRequestRepository.save(any(ServiceRequest.class))).thenReturn(createMockServiceRequest());
+        validDTO.setMunicipalityName("  evora");
+        validDTO.setMunicipalityCode("1106");
+
+        serviceRequestService.createServiceRequest(validDTO);
+
+        String evoraCode = dictionary.findByName("Évora").orElseThrow().getCode();
+        verify(dailyQuotaService).tryReserve("Évora", validDTO.getPreferredDate(), 10);
+        verify(serviceRequestRepository).save(argThat(request ->
+            "Évora".equals(request.getMunicipalityName()) && evoraCode.equals(request.getMunicipalityCode())));
+    }
+
+    @Test
+    @DisplayName("Should reject a municipality missing from the dictionary")
+    void testCreateServiceRequest_UnknownMunicipality_ThrowsException() {
+        when(municipalityService.getDictionary()).thenReturn(MunicipalityDictionary.of(List.of("Porto")));
+
+        assertThatThrownBy(() -> serviceRequestService.createServiceRequest(validDTO))
+            .isInstanceOf(BusinessException.class)
+            .hasMessageContaining("Unknown municipality");
+
+        verify(dailyQuotaService, never()).tryReserve(anyString(), any(), anyInt());
+        verify(serviceRequestRepository, never()).save(any());
     }
 
     @Test
     @DisplayName("Should reject request when daily limit is reached")
     void testCreateServiceRequest_ExceedsDailyLimit_ThrowsException() {
-        when(serviceRequestRepository.countActiveRequestsByMunicipalityAndDate(anyString(), any()))
-            .thenReturn(10L); // At limit
+        when(dailyQuotaService.tryReserve(anyString(), any(), anyInt()))
+            .thenReturn(false); // No capacity left
 
         assertThatThrownBy(() -> serviceRequestService.createServiceRequest(validDTO))
             .isInstanceOf(BusinessException.class)
             .hasMessageContaining("Daily limit reached")
-            .hasMessageContaining("Lisboa");
+            .hasMessageContaining("Lisboa")
+            .hasMessageContaining("Maximum 10");
 
         verify(serviceRequestRepository, never()).save(any());
+        verify(statusHistoryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should reserve quota using the configured daily limit")
+    void testCreateServiceRequest_UsesConfiguredDailyLimit() {
+        ReflectionTestUtils.setField(serviceRequestService, "maxRequestsPerMunicipalityPerDay", 3);
+        when(dailyQuotaService.tryReserve(anyString(), any(), anyInt()))
+            .thenReturn(true);
+        when(serviceRequestRepository.save(any(ServiceRequest.class)))
+            .thenReturn(createMockServiceRequest());
+
+        serviceRequestService.createServiceRequest(validDTO);
+
+        verify(dailyQuotaService).tryReserve("Lisboa", validDTO.getPreferredDate(), 3);
     }
 
     @Test
-    @DisplayName("Should reject request when daily limit is exceeded")
-    void testCreateServiceRequest_ExceedsDailyLimitByOne_ThrowsException() {
-        when(serviceRequestRepository.countActiveRequestsByMunicipalityAndDate(anyString(), any()))
-            .thenReturn(11L); // Over limit
+    @DisplayName("Should reject request when the time slot is full and hand the day back")
+    void testCreateServiceRequest_SlotFull_ThrowsException() {
+        when(dailyQuotaService.tryReserve(anyString(), any(), anyInt())).thenReturn(true);
+        when(slotCapacityService.getCapacity("Lisboa", TimeSlot.MORNING)).thenReturn(4);
+        when(dailyQuotaService.tryReserveSlot("Lisboa", validDTO.getPreferredDate(), TimeSlot.MORNING, 4))
+            .thenReturn(false);
 
         assertThatThrownBy(() -> serviceRequestService.createServiceRequest(validDTO))
             .isInstanceOf(BusinessException.class)
-            .hasMessageContaining("Daily limit reached");
+            .hasMessageContaining("Time slot MORNING is full")
+            .hasMessageContaining("Maximum 4");
 
+        verify(dailyQuotaService).release("Lisboa", validDTO.getPreferredDate());
         verify(serviceRequestRepository, never()).save(any());
     }
 
     @Test
-    @DisplayName("Should allow request when just under daily limit")
-    void testCreateServiceRequest_JustUnderDailyLimit_Success() {
-        when(serviceRequestRepository.countActiveRequestsByMunicipalityAndDate(anyString(), any()))
-            .thenReturn(9L); // One below limit
-        
-        ServiceRequest savedRequest = createMockServiceRequest();
-        when(serviceRequestRepository.save(any(ServiceRequest.class)))
-            .thenReturn(savedRequest);
+    @DisplayName("Should not touch the slot counter when the day is full")
+    void testCreateServiceRequest_DayFull_SlotUntouched() {
+        when(dailyQuotaService.tryReserve(anyString(), any(), anyInt())).thenReturn(false);
 
-        ServiceRequestResponse response = serviceRequestService.createServiceRequest(validDTO);
+        assertThatThrownBy(() -> serviceRequestService.createServiceRequest(validDTO))
+            .isInstanceOf(BusinessException.class);
 
-        assertThat(response).isNotNull();
-        verify(serviceRequestRepository).save(any(ServiceRequest.class));
+        verify(dailyQuotaService, never()).tryReserveSlot(anyString(), any(), any(), anyInt());
     }
 
     @Test
     @DisplayName("Should retrieve request by valid token")
     void testGetByToken_Success() {
         ServiceRequest mockRequest = createMockServiceRequest();
-        when(serviceRequestRepository.findByToken("valid-token"))
+        when(serviceRequestRepository.findWithHistoryByToken("valid-token"))
             .thenReturn(Optional.of(mockRequest));
 
         ServiceRequestResponse response = serviceRequestService.getByToken("valid-token");
@@ -153,13 +247,13 @@ class ServiceRequestServiceTest {
         assertThat(response.getToken()).isEqualTo("valid-token");
         assertThat(response.getMunicipalityName()).isEqualTo("Lisboa");
         
-        verify(serviceRequestRepository).findByToken("valid-token");
+        verify(serviceRequestRepository).findWithHistoryByToken("valid-token");
     }
 
     @Test
     @DisplayName("Should throw exception when token not found")
     void testGetByToken_NotFound_ThrowsException() {
-        when(serviceRequestRepository.findByToken("invalid-token"))
+        when(serviceRequestRepository.findWithHistoryByToken("invalid-token"))
             .thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> serviceRequestService.getByToken("invalid-token"))
@@ -167,7 +261,7 @@ class ServiceRequestServiceTest {
             .hasMessageContaining("token")
             .hasMessageContaining("invalid-token");
         
-        verify(serviceRequestRepository).findByToken("invalid-token");
+        verify(serviceRequestRepository).findWithHistoryByToken("invalid-token");
     }
 
     @Test
@@ -177,12 +271,16 @@ class ServiceRequestServiceTest {
         mockRequest.setStatus(RequestStatus.RECEIVED);
         when(serviceRequestRepository.findByToken("test-token"))
             .thenReturn(Optional.of(mockRequest));
+        when(serviceRequestRepository.compareAndSetStatus(eq(1L), any(), eq(RequestStatus.CANCELLED), any(), any()))
+            .thenReturn(1);
 
         serviceRequestService.cancelByToken("test-token");
 
         assertThat(mockRequest.getStatus()).isEqualTo(RequestStatus.CANCELLED);
-        verify(serviceRequestRepository).save(mockRequest);
+        verify(serviceRequestRepository).compareAndSetStatus(eq(1L), any(), any(), any(), any());
         verify(statusHistoryRepository).save(any());
+        verify(dailyQuotaService).release("Lisboa", mockRequest.getPreferredDate());
+        verify(dailyQuotaService).releaseSlot("Lisboa", mockRequest.getPreferredDate(), mockRequest.getPreferredTimeSlot());
     }
 
     @Test
@@ -197,7 +295,8 @@ class ServiceRequestServiceTest {
             .isInstanceOf(BusinessException.class)
             .hasMessageContaining("Cannot cancel a completed request");
         
-        verify(serviceRequestRepository, never()).save(any());
+        verify(serviceRequestRepository, never()).compareAndSetStatus(any(), any(), any(), any(), any());
+        verify(dailyQuotaService, never()).release(anyString(), any());
     }
 
     @Test
@@ -212,7 +311,7 @@ class ServiceRequestServiceTest {
             .isInstanceOf(BusinessException.class)
             .hasMessageContaining("already cancelled");
         
-        verify(serviceRequestRepository, never()).save(any());
+        verify(serviceRequestRepository, never()).compareAndSetStatus(any(), any(), any(), any(), any());
     }
 
     @Test
@@ -222,11 +321,13 @@ class ServiceRequestServiceTest {
         mockRequest.setStatus(RequestStatus.ASSIGNED);
         when(serviceRequestRepository.findByToken("test-token"))
             .thenReturn(Optional.of(mockRequest));
+        when(serviceRequestRepository.compareAndSetStatus(eq(1L), any(), eq(RequestStatus.CANCELLED), any(), any()))
+            .thenReturn(1);
 
         serviceRequestService.cancelByToken("test-token");
 
         assertThat(mockRequest.getStatus()).isEqualTo(RequestStatus.CANCELLED);
-        verify(serviceRequestRepository).save(mockRequest);
+        verify(serviceRequestRepository).compareAndSetStatus(eq(1L), any(), any(), any(), any());
     }
 
     @Test
@@ -236,11 +337,13 @@ class ServiceRequestServiceTest {
         mockRequest.setStatus(RequestStatus.IN_PROGRESS);
         when(serviceRequestRepository.findByToken("test-token"))
             .thenReturn(Optional.of(mockRequest));
+        when(serviceRequestRepository.compareAndSetStatus(eq(1L), any(), eq(RequestStatus.CANCELLED), any(), any()))
+            .thenReturn(1);
 
         serviceRequestService.cancelByToken("test-token");
 
         assertThat(mockRequest.getStatus()).isEqualTo(RequestStatus.CANCELLED);
-        verify(serviceRequestRepository).save(mockRequest);
+        verify(serviceRequestRepository).compareAndSetStatus(eq(1L), any(), any(), any(), any());
     }
 
     @Test
@@ -248,17 +351,34 @@ class ServiceRequestServiceTest {
     void testUpdateStatus_ReceivedToAssigned_Success() {
         ServiceRequest mockRequest = createMockServiceRequest();
         mockRequest.setStatus(RequestStatus.RECEIVED);
-        when(serviceRequestRepository.findById(1L))
+        when(serviceRequestRepository.findWithHistoryById(1L))
             .thenReturn(Optional.of(mockRequest));
-        when(serviceRequestRepository.save(any()))
-            .thenReturn(mockRequest);
+        when(serviceRequestRepository.compareAndSetStatus(eq(1L), any(), any(), any(), any()))
+            .thenReturn(1);
 
         UpdateStatusRequest updateRequest = new UpdateStatusRequest(RequestStatus.ASSIGNED, "Assigned to team A");
         ServiceRequestResponse response = serviceRequestService.updateStatus(1L, updateRequest);
 
         assertThat(response.getStatus()).isEqualTo(RequestStatus.ASSIGNED);
         verify(statusHistoryRepository).save(any());
-        verify(serviceRequestRepository).save(mockRequest);
+        verify(serviceRequestRepository).compareAndSetStatus(eq(1L), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should publish the status change for event stream subscribers")
+    void testUpdateStatus_PublishesEvent() {
+        ServiceRequest mockRequest = createMockServiceRequest();
+        mockRequest.setStatus(RequestStatus.RECEIVED);
+        mockRequest.setVersion(3L);
+        when(serviceRequestRepository.findWithHistoryById(1L))
+            .thenReturn(Optional.of(mockRequest));
+        when(serviceRequestRepository.compareAndSetStatus(eq(1L), any(), any(), any(), any()))
+            .thenReturn(1);
+
+        serviceRequestService.updateStatus(1L, new UpdateStatusRequest(RequestStatus.ASSIGNED, null));
+
+        verify(eventPublisher).publishEvent(new RequestStatusEvent(1L, mockRequest.getMunicipalityName(),
+            RequestStatus.RECEIVED, RequestStatus.ASSIGNED, 4L, mockRequest.getUpdatedAt()));
     }
 
     @Test
@@ -266,16 +386,17 @@ class ServiceRequestServiceTest {
     void testUpdateStatus_AssignedToInProgress_Success() {
         ServiceRequest mockRequest = createMockServiceRequest();
         mockRequest.setStatus(RequestStatus.ASSIGNED);
-        when(serviceRequestRepository.findById(1L))
+        when(serviceRequestRepository.findWithHistoryById(1L))
             .thenReturn(Optional.of(mockRequest));
-        when(serviceRequestRepository.save(any()))
-            .thenReturn(mockRequest);
+        when(serviceRequestRepository.compareAndSetStatus(eq(1L), any(), any(), any(), any()))
+            .thenReturn(1);
 
         UpdateStatusRequest updateRequest = new UpdateStatusRequest(RequestStatus.IN_PROGRESS, "Collection started");
         ServiceRequestResponse response = serviceRequestService.updateStatus(1L, updateRequest);
 
         assertThat(response.getStatus()).isEqualTo(RequestStatus.IN_PROGRESS);
         verify(statusHistoryRepository).save(any());
+        verifyNoInteractions(dailyQuotaService);
     }
 
     @Test
@@ -283,16 +404,17 @@ class ServiceRequestServiceTest {
     void testUpdateStatus_InProgressToCompleted_Success() {
         ServiceRequest mockRequest = createMockServiceRequest();
         mockRequest.setStatus(RequestStatus.IN_PROGRESS);
-        when(serviceRequestRepository.findById(1L))
+        when(serviceRequestRepository.findWithHistoryById(1L))
             .thenReturn(Optional.of(mockRequest));
-        when(serviceRequestRepository.save(any()))
-            .thenReturn(mockRequest);
+        when(serviceRequestRepository.compareAndSetStatus(eq(1L), any(), any(), any(), any()))
+            .thenReturn(1);
 
         UpdateStatusRequest updateRequest = new UpdateStatusRequest(RequestStatus.COMPLETED, "Collection done");
         ServiceRequestResponse response = serviceRequestService.updateStatus(1L, updateRequest);
 
         assertThat(response.getStatus()).isEqualTo(RequestStatus.COMPLETED);
         verify(statusHistoryRepository).save(any());
+        verify(dailyQuotaService).release("Lisboa", mockRequest.getPreferredDate());
     }
 
     @Test
@@ -300,7 +422,7 @@ class ServiceRequestServiceTest {
     void testUpdateStatus_InvalidTransitionReceivedToCompleted_ThrowsException() {
         ServiceRequest mockRequest = createMockServiceRequest();
         mockRequest.setStatus(RequestStatus.RECEIVED);
-        when(serviceRequestRepository.findById(1L))
+        when(serviceRequestRepository.findWithHistoryById(1L))
             .thenReturn(Optional.of(mockRequest));
 
         UpdateStatusRequest updateRequest = new UpdateStatusRequest(RequestStatus.COMPLETED, null);
@@ -311,7 +433,7 @@ class ServiceRequestServiceTest {
             .hasMessageContaining("RECEIVED")
             .hasMessageContaining("COMPLETED");
         
-        verify(serviceRequestRepository, never()).save(any());
+        verify(serviceRequestRepository, never()).compareAndSetStatus(any(), any(), any(), any(), any());
     }
 
     @Test
@@ -319,7 +441,7 @@ class ServiceRequestServiceTest {
     void testUpdateStatus_InvalidTransitionReceivedToInProgress_ThrowsException() {
         ServiceRequest mockRequest = createMockServiceRequest();
         mockRequest.setStatus(RequestStatus.RECEIVED);
-        when(serviceRequestRepository.findById(1L))
+        when(serviceRequestRepository.findWithHistoryById(1L))
             .thenReturn(Optional.of(mockRequest));
 
         UpdateStatusRequest updateRequest = new UpdateStatusRequest(RequestStatus.IN_PROGRESS, null);
@@ -328,7 +450,7 @@ class ServiceRequestServiceTest {
             .isInstanceOf(BusinessException.class)
             .hasMessageContaining("Invalid status transition");
         
-        verify(serviceRequestRepository, never()).save(any());
+        verify(serviceRequestRepository, never()).compareAndSetStatus(any(), any(), any(), any(), any());
     }
 
     @Test
@@ -336,7 +458,7 @@ class ServiceRequestServiceTest {
     void testUpdateStatus_CompletedRequest_ThrowsException() {
         ServiceRequest mockRequest = createMockServiceRequest();
         mockRequest.setStatus(RequestStatus.COMPLETED);
-        when(serviceRequestRepository.findById(1L))
+        when(serviceRequestRepository.findWithHistoryById(1L))
             .thenReturn(Optional.of(mockRequest));
 
         UpdateStatusRequest updateRequest = new UpdateStatusRequest(RequestStatus.ASSIGNED, null);
@@ -345,7 +467,7 @@ class ServiceRequestServiceTest {
             .isInstanceOf(BusinessException.class)
             .hasMessageContaining("Cannot change status of completed request");
         
-        verify(serviceRequestRepository, never()).save(any());
+        verify(serviceRequestRepository, never()).compareAndSetStatus(any(), any(), any(), any(), any());
     }
 
     @Test
@@ -353,10 +475,12 @@ class ServiceRequestServiceTest {
     void testUpdateStatus_ReopenCancelled_Success() {
         ServiceRequest mockRequest = createMockServiceRequest();
         mockRequest.setStatus(RequestStatus.CANCELLED);
-        when(serviceRequestRepository.findById(1L))
+        when(serviceRequestRepository.findWithHistoryById(1L))
             .thenReturn(Optional.of(mockRequest));
-        when(serviceRequestRepository.save(any()))
-            .thenReturn(mockRequest);
+        when(serviceRequestRepository.compareAndSetStatus(eq(1L), any(), any(), any(), any()))
+            .thenReturn(1);
+        when(dailyQuotaService.tryReserve("Lisboa", mockRequest.getPreferredDate(), 10))
+            .thenReturn(true);
 
         UpdateStatusRequest updateRequest = new UpdateStatusRequest(RequestStatus.RECEIVED, "Reopened");
         ServiceRequestResponse response = serviceRequestService.updateStatus(1L, updateRequest);
@@ -365,12 +489,31 @@ class ServiceRequestServiceTest {
         verify(statusHistoryRepository).save(any());
     }
 
+    @Test
+    @DisplayName("Should reject reopening cancelled request when daily limit is reached")
+    void testUpdateStatus_ReopenCancelled_DailyLimitReached_ThrowsException() {
+        ServiceRequest mockRequest = createMockServiceRequest();
+        mockRequest.setStatus(RequestStatus.CANCELLED);
+        when(serviceRequestRepository.findWithHistoryById(1L))
+            .thenReturn(Optional.of(mockRequest));
+        when(dailyQuotaService.tryReserve("Lisboa", mockRequest.getPreferredDate(), 10))
+            .thenReturn(false);
+
+        UpdateStatusRequest updateRequest = new UpdateStatusRequest(RequestStatus.RECEIVED, "Reopened");
+
+        assertThatThrownBy(() -> serviceRequestService.updateStatus(1L, updateRequest))
+            .isInstanceOf(BusinessException.class)
+            .hasMessageContaining("Daily limit reached");
+
+        verify(serviceRequestRepository, never()).compareAndSetStatus(any(), any(), any(), any(), any());
+    }
+
     @Test
     @DisplayName("Should reject invalid cancelled transition to ASSIGNED")
     void testUpdateStatus_CancelledToAssigned_ThrowsException() {
         ServiceRequest mockRequest = createMockServiceRequest();
         mockRequest.setStatus(RequestStatus.CANCELLED);
-        when(serviceRequestRepository.findById(1L))
+        when(serviceRequestRepository.findWithHistoryById(1L))
             .thenReturn(Optional.of(mockRequest));
 
         UpdateStatusRequest updateRequest = new UpdateStatusRequest(RequestStatus.ASSIGNED, null);
@@ -379,13 +522,13 @@ class ServiceRequestServiceTest {
             .isInstanceOf(BusinessException.class)
             .hasMessageContaining("Can only reopen cancelled requests to RECEIVED status");
         
-        verify(serviceRequestRepository, never()).save(any());
+        verify(serviceRequestRepository, never()).compareAndSetStatus(any(), any(), any(), any(), any());
     }
 
     @Test
     @DisplayName("Should throw exception when updating non-existent request")
     void testUpdateStatus_RequestNotFound_ThrowsException() {
-        when(serviceRequestRepository.findById(999L))
+        when(serviceRequestRepository.findWithHistoryById(999L))
             .thenReturn(Optional.empty());
 
         UpdateStatusRequest updateRequest = new UpdateStatusRequest(RequestStatus.ASSIGNED, null);
@@ -394,55 +537,283 @@ class ServiceRequestServiceTest {
             .isInstanceOf(ResourceNotFoundException.class)
             .hasMessageContaining("999");
         
-        verify(serviceRequestRepository, never()).save(any());
+        verify(serviceRequestRepository, never()).compareAndSetStatus(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject update when the request changed after it was loaded")
+    void testUpdateStatus_ConcurrentChange_ThrowsConflict() {
+        ServiceRequest mockRequest = createMockServiceRequest();
+        mockRequest.setStatus(RequestStatus.RECEIVED);
+        when(serviceRequestRepository.findWithHistoryById(1L))
+            .thenReturn(Optional.of(mockRequest));
+        when(serviceRequestRepository.compareAndSetStatus(
+                eq(1L), eq(RequestStatus.RECEIVED), eq(RequestStatus.ASSIGNED), any(), any()))
+            .thenReturn(0);
+
+        UpdateStatusRequest updateRequest = new UpdateStatusRequest(RequestStatus.ASSIGNED, null);
+
+        assertThatThrownBy(() -> serviceRequestService.updateStatus(1L, updateRequest))
+            .isInstanceOf(ConcurrentUpdateException.class);
+
+        verify(statusHistoryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should reject update sent with a stale version")
+    void testUpdateStatus_StaleVersion_ThrowsConflict() {
+        ServiceRequest mockRequest = createMockServiceRequest();
+        mockRequest.setStatus(RequestStatus.RECEIVED);
+        mockRequest.setVersion(3L);
+        when(serviceRequestRepository.findWithHistoryById(1L))
+            .thenReturn(Optional.of(mockRequest));
+
+        UpdateStatusRequest updateRequest = new UpdateStatusRequest(RequestStatus.ASSIGNED, null, 2L);
+
+        assertThatThrownBy(() -> serviceRequestService.updateStatus(1L, updateRequest))
+            .isInstanceOf(ConcurrentUpdateException.class);
+
+        verify(serviceRequestRepository, never()).compareAndSetStatus(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return the new version and history entry after an update")
+    void testUpdateStatus_ReturnsNewVersionAndHistory() {
+        ServiceRequest mockRequest = createMockServiceRequest();
+        mockRequest.setStatus(RequestStatus.RECEIVED);
+        mockRequest.setVersion(3L);
+        when(serviceRequestRepository.findWithHistoryById(1L))
+            .thenReturn(Optional.of(mockRequest));
+        when(serviceRequestRepository.compareAndSetStatus(
+                eq(1L), eq(RequestStatus.RECEIVED), eq(RequestStatus.ASSIGNED), eq(3L), any()))
+            .thenReturn(1);
+
+        UpdateStatusRequest updateRequest = new UpdateStatusRequest(RequestStatus.ASSIGNED, "Team A", 3L);
+        ServiceRequestResponse response = serviceRequestService.updateStatus(1L, updateRequest);
+
+        assertThat(response.getVersion()).isEqualTo(4L);
+        assertThat(response.getStatusHistory()).first()
+            .satisfies(history -> {
+                assertThat(history.getPreviousStatus()).isEqualTo(RequestStatus.RECEIVED);
+                assertThat(history.getNewStatus()).isEqualTo(RequestStatus.ASSIGNED);
+            });
+    }
+
+    @Test
+    @DisplayName("Should reject bulk updates above the configured size")
+    void testUpdateStatuses_TooManyItems_ThrowsException() {
+        ReflectionTestUtils.setField(serviceRequestService, "maxBulkItems", 1);
+        BulkStatusUpdateRequest bulkRequest = new BulkStatusUpdateRequest(List.of(
+            new BulkStatusUpdateRequest.Item(1L, RequestStatus.ASSIGNED, null),
+            new BulkStatusUpdateRequest.Item(2L, RequestStatus.ASSIGNED, null)
+        ));
+
+        assertThatThrownBy(() -> serviceRequestService.updateStatuses(bulkRequest))
+            .isInstanceOf(BusinessException.class)
+            .hasMessageContaining("at most 1 items");
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should skip bulk reopen items once the daily limit is reached")
+    @SuppressWarnings("unchecked")
+    void testUpdateStatuses_ReopenOverLimit_OnlyThatItemRejected() {
+        ServiceRequestSummary cancelled = createMockSummary(1L, LocalDateTime.now());
+        cancelled.setStatus(RequestStatus.CANCELLED);
+        ServiceRequestSummary received = createMockSummary(2L, LocalDateTime.now());
+        when(serviceRequestRepository.findSummariesByIdIn(List.of(1L, 2L)))
+            .thenReturn(List.of(cancelled, received));
+        when(dailyQuotaService.tryReserve("Lisboa", cancelled.getPreferredDate(), 10))
+            .thenReturn(false);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+            .thenReturn(new int[][] {{1}});
+
+        BulkStatusUpdateResponse response = serviceRequestService.updateStatuses(new BulkStatusUpdateRequest(List.of(
+            new BulkStatusUpdateRequest.Item(1L, RequestStatus.RECEIVED, "Reopened"),
+            new BulkStatusUpdateRequest.Item(2L, RequestStatus.ASSIGNED, "Team A")
+        )));
+
+        assertThat(response.getSucceeded()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(response.getResults().get(0).getError()).contains("Daily limit reached");
+        assertThat(response.getResults().get(1).isSuccess()).isTrue();
+        verify(jdbcTemplate)
+            .batchUpdate(anyString(), argThat(list -> list.size() == 1), eq(50), any(ParameterizedPreparedStatementSetter.class));
+        verify(statusHistoryRepository).saveAll(argThat(histories -> ((List<?>) histories).size() == 1));
     }
 
     @Test
     @DisplayName("Should retrieve all requests without filter")
     void testGetAllRequests_NoFilter_Success() {
-        List<ServiceRequest> mockRequests = Arrays.asList(
-            createMockServiceRequest(),
-            createMockServiceRequest(),
-            createMockServiceRequest()
+        List<ServiceRequestSummary> mockRequests = Arrays.asList(
+            createMockSummary(3L, LocalDateTime.now()),
+            createMockSummary(2L, LocalDateTime.now()),
+            createMockSummary(1L, LocalDateTime.now())
         );
-        when(serviceRequestRepository.findAllByOrderByCreatedAtDesc())
+        when(serviceRequestRepository.findAllSummaries())
             .thenReturn(mockRequests);
 
-        List<ServiceRequestResponse> responses = serviceRequestService.getAllRequests(null);
+        List<ServiceRequestSummary> responses = serviceRequestService.getAllRequests(null);
 
         assertThat(responses).hasSize(3);
-        verify(serviceRequestRepository).findAllByOrderByCreatedAtDesc();
-        verify(serviceRequestRepository, never()).findByMunicipalityName(anyString());
+        verify(serviceRequestRepository).findAllSummaries();
+        verify(serviceRequestRepository, never()).findSummariesByMunicipalityName(anyString());
+        verify(serviceRequestRepository, never()).findAll();
     }
 
     @Test
     @DisplayName("Should retrieve requests filtered by municipality")
     void testGetAllRequests_WithMunicipalityFilter_Success() {
-        List<ServiceRequest> mockRequests = Arrays.asList(
-            createMockServiceRequest(),
-            createMockServiceRequest()
+        List<ServiceRequestSummary> mockRequests = Arrays.asList(
+            createMockSummary(2L, LocalDateTime.now()),
+            createMockSummary(1L, LocalDateTime.now())
         );
-        when(serviceRequestRepository.findByMunicipalityName("Lisboa"))
+        when(serviceRequestRepository.findSummariesByMunicipalityName("Lisboa"))
             .thenReturn(mockRequests);
 
-        List<ServiceRequestResponse> responses = serviceRequestService.getAllRequests("Lisboa");
+        List<ServiceRequestSummary> responses = serviceRequestService.getAllRequests("Lisboa");
 
         assertThat(responses).hasSize(2);
-        verify(serviceRequestRepository).findByMunicipalityName("Lisboa");
-        verify(serviceRequestRepository, never()).findAllByOrderByCreatedAtDesc();
+        verify(serviceRequestRepository).findSummariesByMunicipalityName("Lisboa");
+        verify(serviceRequestRepository, never()).findAllSummaries();
     }
 
     @Test
     @DisplayName("Should handle empty municipality filter as no filter")
     void testGetAllRequests_EmptyMunicipalityFilter_ReturnsAll() {
-        List<ServiceRequest> mockRequests = Arrays.asList(createMockServiceRequest());
-        when(serviceRequestRepository.findAllByOrderByCreatedAtDesc())
+        List<ServiceRequestSummary> mockRequests = Arrays.asList(createMockSummary(1L, LocalDateTime.now()));
+        when(serviceRequestRepository.findAllSummaries())
             .thenReturn(mockRequests);
 
-        List<ServiceRequestResponse> responses = serviceRequestService.getAllRequests("");
+        List<ServiceRequestSummary> responses = serviceRequestService.getAllRequests("");
 
         assertThat(responses).hasSize(1);
-        verify(serviceRequestRepository).findAllByOrderByCreatedAtDesc();
+        verify(serviceRequestRepository).findAllSummaries();
+    }
+
+    @Test
+    @DisplayName("Should return the first page with a cursor to the next one")
+    void testGetAllRequestsPage_FirstPage_HasMore() {
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<ServiceRequestSummary> mockRequests = Arrays.asList(
+            createMockSummary(3L, createdAt),
+            createMockSummary(2L, createdAt),
+            createMockSummary(1L, createdAt)
+        );
+        when(serviceRequestRepository.findFirstPage(Limit.of(3))).thenReturn(mockRequests);
+
+        CursorPage<ServiceRequestSummary> page = serviceRequestService.getAllRequests(null, null, 2);
+
+        assertThat(page.getItems()).extracting(ServiceRequestSummary::getId).containsExactly(3L, 2L);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(RequestCursor.decode(page.getNextCursor())).isEqualTo(new RequestCursor(createdAt, 2L));
+    }
+
+    @Test
+    @DisplayName("Should continue after the cursor position for a municipality")
+    void testGetAllRequestsPage_WithCursorAndMunicipality_LastPage() {
+        LocalDateTime createdAt = LocalDateTime.now();
+        String cursor = new RequestCursor(createdAt, 5L).encode();
+        when(serviceRequestRepository.findPageAfterByMunicipality("Lisboa", createdAt, 5L, Limit.of(51)))
+            .thenReturn(List.of(createMockSummary(4L, createdAt)));
+
+        CursorPage<ServiceRequestSummary> page = serviceRequestService.getAllRequests("Lisboa", cursor, null);
+
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.isHasMore()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+        verify(serviceRequestRepository, never()).findPageAfter(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should cap the page size at the configured maximum")
+    void testGetAllRequestsPage_SizeCapped() {
+        when(serviceRequestRepository.findFirstPage(Limit.of(201))).thenReturn(List.of());
+
+        CursorPage<ServiceRequestSummary> page = serviceRequestService.getAllRequests(null, null, 10_000);
+
+        assertThat(page.getItems()).isEmpty();
+        verify(serviceRequestRepository).findFirstPage(Limit.of(201));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid page sizes and cursors")
+    void testGetAllRequestsPage_InvalidInput() {
+        assertThatThrownBy(() -> serviceRequestService.getAllRequests(null, null, 0))
+            .isInstanceOf(BusinessException.class)
+            .hasMessageContaining("Page size");
+        assertThatThrownBy(() -> serviceRequestService.getAllRequests(null, "garbage", 10))
+            .isInstanceOf(BusinessException.class)
+            .hasMessageContaining("Invalid cursor");
+    }
+
+    @Test
+    @DisplayName("Should return changes from the start with cancelled requests as tombstones")
+    void testGetChanges_FirstSync() {
+        LocalDateTime updatedAt = LocalDateTime.now().minusMinutes(5);
+        ServiceRequestSummary cancelled = createMockSummary(2L, updatedAt);
+        cancelled.setStatus(RequestStatus.CANCELLED);
+        when(serviceRequestRepository.findChangesAfter(LocalDateTime.of(1970, 1, 1, 0, 0), 0L, Limit.of(51)))
+            .thenReturn(List.of(createMockSummary(1L, updatedAt), cancelled));
+
+        CursorPage<RequestChange> page = serviceRequestService.getChanges(null, null, null);
+
+        assertThat(page.getItems()).extracting(RequestChange::id, RequestChange::tombstone)
+            .containsExactly(tuple(1L, false), tuple(2L, true));
+        assertThat(page.getItems().get(0).request()).isNotNull();
+        assertThat(page.getItems().get(1).request()).isNull();
+        assertThat(page.getItems().get(1).status()).isEqualTo(RequestStatus.CANCELLED);
+        assertThat(page.isHasMore()).isFalse();
+        assertThat(RequestCursor.decode(page.getNextCursor())).isEqualTo(new RequestCursor(updatedAt, 2L));
+    }
+
+    @Test
+    @DisplayName("Should keep the cursor when nothing changed")
+    void testGetChanges_NothingNew() {
+        LocalDateTime updatedAt = LocalDateTime.now().minusMinutes(5);
+        String since = new RequestCursor(updatedAt, 7L).encode();
+        when(serviceRequestRepository.findChangesAfterByMunicipality("Lisboa", updatedAt, 7L, Limit.of(51)))
+            .thenReturn(List.of());
+
+        CursorPage<RequestChange> page = serviceRequestService.getChanges("Lisboa", since, null);
+
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getNextCursor()).isEqualTo(since);
+    }
+
+    @Test
+    @DisplayName("Should move a caught-up cursor back to the start of the overlap window")
+    void testGetChanges_RewindsIntoOverlap() {
+        LocalDateTime updatedAt = LocalDateTime.now().minusSeconds(5);
+        when(serviceRequestRepository.findChangesAfter(LocalDateTime.of(1970, 1, 1, 0, 0), 0L, Limit.of(2)))
+            .thenReturn(List.of(createMockSummary(1L, updatedAt)));
+        when(serviceRequestRepository.findChangesAfter(updatedAt, 1L, Limit.of(2)))
+            .thenReturn(List.of(createMockSummary(1L, updatedAt), createMockSummary(2L, updatedAt)));
+
+        CursorPage<RequestChange> caughtUp = serviceRequestService.getChanges(null, null, 1);
+        CursorPage<RequestChange> partial = serviceRequestService.getChanges(null,
+            new RequestCursor(updatedAt, 1L).encode(), 1);
+
+        RequestCursor rewound = RequestCursor.decode(caughtUp.getNextCursor());
+        assertThat(rewound.timestamp()).isBefore(updatedAt.minusSeconds(50));
+        assertThat(rewound.id()).isZero();
+        assertThat(partial.isHasMore()).isTrue();
+        assertThat(RequestCursor.decode(partial.getNextCursor())).isEqualTo(new RequestCursor(updatedAt, 1L));
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed change cursor")
+    void testGetChanges_InvalidCursor() {
+        assertThatThrownBy(() -> serviceRequestService.getChanges(null, "not a cursor", null))
+            .isInstanceOf(BusinessException.class)
+            .hasMessageContaining("Invalid cursor");
+    }
+
+    private ServiceRequestSummary createMockSummary(Long id, LocalDateTime createdAt) {
+        return new ServiceRequestSummary(id, "1106", "Lisboa", "João Silva", "Rua Example, 123",
+            "Old refrigerator and washing machine", LocalDate.now().plusDays(5), TimeSlot.MORNING,
+            RequestStatus.RECEIVED, createdAt, createdAt, 0L);
     }
 
     private ServiceRequest createMockServiceRequest() {
@@ -0,0 +1,127 @@
+package com.zeremonos.wastecollection.service;
+
+import com.zeremonos.wastecollection.dto.SlotCapacityDTO;
+import com.zeremonos.wastecollection.exception.BusinessException;
+import com.zeremonos.wastecollection.exception.ResourceNotFoundException;
+import com.zeremonos.wastecollection.model.SlotCapacity;
+import com.zeremonos.wastecollection.model.TimeSlot;
+import com.zeremonos.wastecollection.repository.SlotCapacityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SlotCapacityService - Slot Capacity Settings Tests")
+class SlotCapacityServiceTest {
+
+    @Mock
+    private SlotCapacityRepository slotCapacityRepository;
+
+    @Mock
+    private MunicipalityService municipalityService;
+
+    private SlotCapacityService slotCapacityService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(municipalityService.getDictionary())
+            .thenReturn(MunicipalityDictionary.of(List.of("Lisboa", "Porto")));
+        lenient().when(municipalityService.resolveName(anyString())).thenCallRealMethod();
+        slotCapacityService = new SlotCapacityService(slotCapacityRepository, municipalityService, 10, 6, 3);
+    }
+
+    @Test
+    @DisplayName("Should serve configured capacities and fall back to the slot defaults")
+    void testGetCapacity_ConfiguredAndDefaults() {
+        when(slotCapacityRepository.findAll()).thenReturn(List.of(
+            new SlotCapacity("Lisboa", TimeSlot.MORNING, 4),
+            new SlotCapacity("Porto", TimeSlot.EVENING, 0)));
+
+        slotCapacityService.afterSingletonsInstantiated();
+
+        assertThat(slotCapacityService.getCapacity("Lisboa", TimeSlot.MORNING)).isEqualTo(4);
+        assertThat(slotCapacityService.getCapacity("Lisboa", TimeSlot.AFTERNOON)).isEqualTo(6);
+        assertThat(slotCapacityService.getCapacity("Porto", TimeSlot.EVENING)).isZero();
+        assertThat(slotCapacityService.getCapacity("Braga", TimeSlot.EVENING)).isEqualTo(3);
+        assertThat(slotCapacityService.getCapacities("lisboa"))
+            .containsEntry(TimeSlot.MORNING, 4)
+            .containsEntry(TimeSlot.AFTERNOON, 6)
+            .containsEntry(TimeSlot.EVENING, 3);
+    }
+
+    @Test
+    @DisplayName("Should pick up capacities changed in the table on reload")
+    void testReload_ReplacesSnapshot() {
+        when(slotCapacityRepository.findAll())
+            .thenReturn(List.of(new SlotCapacity("Lisboa", TimeSlot.MORNING, 4)))
+            .thenReturn(List.of());
+        slotCapacityService.afterSingletonsInstantiated();
+
+        assertThat(slotCapacityService.reload()).isZero();
+
+        assertThat(slotCapacityService.getCapacity("Lisboa", TimeSlot.MORNING)).isEqualTo(10);
+        assertThat(slotCapacityService.getConfiguredCapacities()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should store a capacity under the canonical name and apply it right away")
+    void testSetCapacity_UpdatesSnapshot() {
+        when(slotCapacityRepository.findByMunicipalityNameAndTimeSlot("Lisboa", TimeSlot.EVENING))
+            .thenReturn(Optional.empty());
+        when(slotCapacityRepository.findAll())
+            .thenReturn(List.of(new SlotCapacity("Lisboa", TimeSlot.EVENING, 2)));
+
+        SlotCapacityDTO result = slotCapacityService.setCapacity("LISBOA", TimeSlot.EVENING, 2);
+
+        ArgumentCaptor<SlotCapacity> saved = ArgumentCaptor.forClass(SlotCapacity.class);
+        verify(slotCapacityRepository).save(saved.capture());
+        assertThat(saved.getValue().getMunicipalityName()).isEqualTo("Lisboa");
+        assertThat(saved.getValue().getCapacity()).isEqualTo(2);
+        assertThat(result).isEqualTo(new SlotCapacityDTO("Lisboa", TimeSlot.EVENING, 2));
+        assertThat(slotCapacityService.getCapacity("Lisboa", TimeSlot.EVENING)).isEqualTo(2);
+        assertThat(slotCapacityService.getConfiguredCapacities()).containsExactly(result);
+    }
+
+    @Test
+    @DisplayName("Should reject a negative capacity")
+    void testSetCapacity_Negative_ThrowsException() {
+        assertThatThrownBy(() -> slotCapacityService.setCapacity("Lisboa", TimeSlot.MORNING, -1))
+            .isInstanceOf(BusinessException.class);
+        verify(slotCapacityRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a municipality missing from the dictionary")
+    void testSetCapacity_UnknownMunicipality_ThrowsException() {
+        assertThatThrownBy(() -> slotCapacityService.setCapacity("Atlantis", TimeSlot.MORNING, 3))
+            .isInstanceOf(ResourceNotFoundException.class)
+            .hasMessageContaining("Atlantis");
+        verify(slotCapacityRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should fail to remove a capacity that was never configured")
+    void testRemoveCapacity_NotConfigured_ThrowsException() {
+        when(slotCapacityRepository.findByMunicipalityNameAndTimeSlot("Porto", TimeSlot.MORNING))
+            .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> slotCapacityService.removeCapacity("Porto", TimeSlot.MORNING))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
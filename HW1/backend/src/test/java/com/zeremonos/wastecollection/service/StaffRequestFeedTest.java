@@ -0,0 +1,44 @@
+package com.zeremonos.wastecollection.service;
+
+import com.zeremonos.wastecollection.dto.RequestStatusEvent;
+import com.zeremonos.wastecollection.exception.SubscriberLimitException;
+import com.zeremonos.wastecollection.model.RequestStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("StaffRequestFeed - Subscription Tests")
+class StaffRequestFeedTest {
+
+    @Test
+    @DisplayName("Should reject subscriptions beyond the configured limit")
+    void testSubscribe_LimitReached() {
+        StaffRequestFeed feed = new StaffRequestFeed(new EventStreamSender(1), 1, 10, Duration.ofMinutes(1));
+
+        feed.subscribe(null);
+
+        assertThatThrownBy(() -> feed.subscribe(null))
+            .isInstanceOf(SubscriberLimitException.class)
+            .hasMessageContaining("limit 1");
+        assertThat(feed.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep numbering deltas once the replay buffer is full")
+    void testOnStatusChanged_BoundedReplay() {
+        StaffRequestFeed feed = new StaffRequestFeed(new EventStreamSender(1), 1, 2, Duration.ofMinutes(1));
+
+        for (long version = 1; version <= 5; version++) {
+            feed.onStatusChanged(new RequestStatusEvent(1L, "Lisboa", RequestStatus.RECEIVED,
+                RequestStatus.ASSIGNED, version, LocalDateTime.now()));
+        }
+
+        assertThatCode(() -> feed.subscribe(4L)).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,185 @@
+package com.zeremonos.wastecollection.service;
+
+import com.zeremonos.wastecollection.dto.CursorPage;
+import com.zeremonos.wastecollection.dto.RequestChange;
+import com.zeremonos.wastecollection.dto.ServiceRequestDTO;
+import com.zeremonos.wastecollection.dto.ServiceRequestResponse;
+import com.zeremonos.wastecollection.dto.UpdateStatusRequest;
+import com.zeremonos.wastecollection.exception.ConcurrentUpdateException;
+import com.zeremonos.wastecollection.model.RequestStatus;
+import com.zeremonos.wastecollection.model.TimeSlot;
+import com.zeremonos.wastecollection.repository.DailyQuotaRepository;
+import com.zeremonos.wastecollection.repository.ServiceRequestRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:transitiondb;DB_CLOSE_DELAY=-1",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("Status Transitions - Compare-and-set Tests")
+class StatusTransitionConcurrencyTest {
+
+    private static final int CONCURRENT_UPDATES = 8;
+
+    @Autowired
+    private ServiceRequestService serviceRequestService;
+
+    @Autowired
+    private ServiceRequestRepository serviceRequestRepository;
+
+    @Autowired
+    private DailyQuotaRepository dailyQuotaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        serviceRequestRepository.deleteAll();
+        dailyQuotaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should apply exactly one of several concurrent transitions")
+    void testConcurrentTransitions_OnlyOneWins() throws Exception {
+        ServiceRequestResponse created = serviceRequestService.createServiceRequest(createDTO());
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_UPDATES);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        for (int i = 0; i < CONCURRENT_UPDATES; i++) {
+            RequestStatus target = i % 2 == 0 ? RequestStatus.ASSIGNED : RequestStatus.CANCELLED;
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    serviceRequestService.updateStatus(created.getId(), new UpdateStatusRequest(target, null));
+                    return true;
+                } catch (RuntimeException e) {
+                    return false;
+                }
+            }));
+        }
+
+        start.countDown();
+        int applied = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(30, TimeUnit.SECONDS)) {
+                applied++;
+            }
+        }
+        executor.shutdown();
+
+        ServiceRequestResponse reloaded = serviceRequestService.getByToken(created.getToken());
+        assertThat(applied).isEqualTo(1);
+        assertThat(reloaded.getStatusHistory()).hasSize(2);
+        assertThat(reloaded.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should reject a transition sent with an outdated version")
+    void testStaleVersion_Rejected() {
+        ServiceRequestResponse created = serviceRequestService.createServiceRequest(createDTO());
+        serviceRequestService.updateStatus(created.getId(),
+            new UpdateStatusRequest(RequestStatus.ASSIGNED, null, created.getVersion()));
+
+        assertThatThrownBy(() -> serviceRequestService.updateStatus(created.getId(),
+                new UpdateStatusRequest(RequestStatus.CANCELLED, null, created.getVersion())))
+            .isInstanceOf(ConcurrentUpdateException.class);
+    }
+
+    @Test
+    @DisplayName("Should run a transition in three statements")
+    void testTransition_StatementCount() {
+        ServiceRequestResponse created = serviceRequestService.createServiceRequest(createDTO());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ServiceRequestResponse updated = serviceRequestService.updateStatus(created.getId(),
+            new UpdateStatusRequest(RequestStatus.ASSIGNED, "Assigned to team A"));
+
+        // Load with history, conditional UPDATE, history INSERT
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(updated.getStatus()).isEqualTo(RequestStatus.ASSIGNED);
+        assertThat(updated.getStatusHistory()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should return a change committed behind a cursor that was already handed out")
+    void testChanges_SlowTransactionNotMissed() throws Exception {
+        ServiceRequestResponse slow = serviceRequestService.createServiceRequest(createDTO());
+        ServiceRequestResponse fast = serviceRequestService.createServiceRequest(createDTO());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch updated = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+
+        // Takes its timestamp now but commits only after the fast change has been read
+        Future<?> slowTransaction = executor.submit(() -> new TransactionTemplate(transactionManager)
+            .executeWithoutResult(status -> {
+                serviceRequestService.updateStatus(slow.getId(), new UpdateStatusRequest(RequestStatus.ASSIGNED, null));
+                updated.countDown();
+                try {
+                    commit.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        assertThat(updated.await(30, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(2_500);
+        serviceRequestService.updateStatus(fast.getId(), new UpdateStatusRequest(RequestStatus.ASSIGNED, null));
+        CursorPage<RequestChange> before = serviceRequestService.getChanges(null, null, null);
+
+        commit.countDown();
+        slowTransaction.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+        CursorPage<RequestChange> after = serviceRequestService.getChanges(null, before.getNextCursor(), null);
+
+        assertThat(before.getItems()).extracting(RequestChange::id, RequestChange::version)
+            .contains(tuple(slow.getId(), 0L), tuple(fast.getId(), 1L));
+        assertThat(after.getItems()).extracting(RequestChange::id, RequestChange::version)
+            .contains(tuple(slow.getId(), 1L));
+    }
+
+    private ServiceRequestDTO createDTO() {
+        ServiceRequestDTO dto = new ServiceRequestDTO();
+        dto.setMunicipalityCode("1106");
+        dto.setMunicipalityName("Lisboa");
+        dto.setCitizenName("Test Citizen");
+        dto.setCitizenEmail("citizen@example.com");
+        dto.setCitizenPhone("912345678");
+        dto.setPickupAddress("Rua Example, 123, Lisboa");
+        dto.setItemDescription("Old refrigerator and washing machine");
+        dto.setPreferredDate(LocalDate.now().plusDays(5));
+        dto.setPreferredTimeSlot(TimeSlot.MORNING);
+        return dto;
+    }
+}
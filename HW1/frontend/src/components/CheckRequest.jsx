@@ -1,5 +1,5 @@
-import React, { useState } from 'react';
-import { getServiceRequestByToken, cancelServiceRequest } from '../services/api';
+import React, { useEffect, useRef, useState } from 'react';
+import { getServiceRequestByToken, cancelServiceRequest, subscribeToRequestStatus } from '../services/api';
 import './CheckRequest.css';
 
 const CheckRequest = () => {
@@ -9,6 +9,33 @@ const CheckRequest = () => {
   const [error, setError] = useState(null);
   const [showCancelConfirm, setShowCancelConfirm] = useState(false);
 
+  const requestToken = request?.token;
+  const shownVersion = useRef(null);
+  shownVersion.current = request?.version ?? null;
+
+  // Follow status changes while a request is shown instead of polling for them
+  useEffect(() => {
+    if (!requestToken) {
+      return undefined;
+    }
+    const source = subscribeToRequestStatus(requestToken, async (event) => {
+      if (event.status === 'COMPLETED') {
+        // The server ends the stream; closing stops the browser from reconnecting
+        source.close();
+      }
+      if (event.version === shownVersion.current) {
+        return; // The first event repeats the status already on screen
+      }
+      try {
+        const data = await getServiceRequestByToken(requestToken);
+        setRequest((current) => (current?.token === requestToken ? data : current));
+      } catch (err) {
+        console.error('Error refreshing request after status change:', err);
+      }
+    });
+    return () => source.close();
+  }, [requestToken]);
+
   const handleSearch = async (e) => {
     e.preventDefault();
     setLoading(true);
@@ -1,5 +1,5 @@
 import React, { useState, useEffect } from 'react';
-import { getMunicipalities, createServiceRequest } from '../services/api';
+import { getMunicipalities, createServiceRequest, getAvailability } from '../services/api';
 import './CreateRequest.css';
 
 const CreateRequest = () => {
@@ -9,6 +9,7 @@ const CreateRequest = () => {
   const [fieldErrors, setFieldErrors] = useState({});
   const [success, setSuccess] = useState(null);
   const [token, setToken] = useState(null);
+  const [availability, setAvailability] = useState({});
 
   const [formData, setFormData] = useState({
     municipalityCode: '',
@@ -26,6 +27,27 @@ const CreateRequest = () => {
     loadMunicipalities();
   }, []);
 
+  // Show how much room each date has left instead of letting a full day fail on submit
+  useEffect(() => {
+    if (!formData.municipalityName) {
+      return;
+    }
+    let current = true;
+    getAvailability(formData.municipalityName)
+      .then((dates) => {
+        if (current) {
+          setAvailability(Object.fromEntries(dates.map((d) => [d.date, d])));
+        }
+      })
+      .catch((err) => console.error('Error loading availability:', err));
+    return () => {
+      current = false;
+    };
+  }, [formData.municipalityName]);
+
+  const selectedDate = availability[formData.preferredDate];
+  const selectedSlotFull = selectedDate?.slots[formData.preferredTimeSlot] === 0;
+
   const loadMunicipalities = async () => {
     try {
       const data = await getMunicipalities();
@@ -252,6 +274,11 @@ const CreateRequest = () => {
               {fieldErrors.preferredDate && (
                 <div className="field-error">{fieldErrors.preferredDate}</div>
               )}
+              {selectedDate && !fieldErrors.preferredDate && (
+                selectedDate.remaining === 0
+                  ? <div className="field-error">This date is fully booked. Please choose another date.</div>
+                  : <small className="char-counter">{selectedDate.remaining} slot(s) left on this date</small>
+              )}
             </div>
 
             <div className="form-group">
@@ -276,7 +303,7 @@ const CreateRequest = () => {
         </div>
 
         <div className="form-actions">
-          <button type="submit" className="btn btn-primary" disabled={loading}>
+          <button type="submit" className="btn btn-primary" disabled={loading || selectedSlotFull}>
             {loading ? 'Submitting...' : 'Submit Request'}
           </button>
         </div>
@@ -68,9 +68,6 @@ const RequestCard = ({ request, onUpdateStatus }) => {
           <span className="info-icon">👤</span>
           <div className="info-content">
             <strong>{request.citizenName}</strong>
-            {request.citizenPhone && (
-              <p className="info-detail">📞 {request.citizenPhone}</p>
-            )}
           </div>
         </div>
 
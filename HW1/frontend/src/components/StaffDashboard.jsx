@@ -1,10 +1,13 @@
-import React, { useState, useEffect } from 'react';
-import { getAllServiceRequests } from '../services/staffApi';
+import React, { useState, useEffect, useRef } from 'react';
+import { getAllServiceRequests, getStatusSummary, subscribeToRequestChanges } from '../services/staffApi';
 import { getMunicipalities } from '../services/api';
 import RequestCard from './RequestCard';
 import UpdateStatusModal from './UpdateStatusModal';
 import './StaffDashboard.css';
 
+// Deltas arrive in bursts (a bulk update sends one per row), so counts are refreshed at most this often
+const STATS_REFRESH_DELAY_MS = 500;
+
 const StaffDashboard = () => {
   const [requests, setRequests] = useState([]);
   const [municipalities, setMunicipalities] = useState([]);
@@ -23,15 +26,20 @@ const StaffDashboard = () => {
     cancelled: 0,
   });
 
+  const municipalityFilter = useRef(null);
+  const statsRefresh = useRef(null);
+
   useEffect(() => {
     loadMunicipalities();
+    // Subscribe before loading so no change made in between is missed
+    const source = subscribeToRequestChanges(applyDelta, () => loadRequests(municipalityFilter.current));
     loadRequests();
+    return () => {
+      source.close();
+      clearTimeout(statsRefresh.current);
+    };
   }, []);
 
-  useEffect(() => {
-    calculateStats();
-  }, [requests]);
-
   const loadMunicipalities = async () => {
     try {
       const data = await getMunicipalities();
@@ -46,8 +54,14 @@ const StaffDashboard = () => {
     setLoading(true);
     setError(null);
     try {
+      municipalityFilter.current = municipality;
+      loadStats(municipality);
       const data = await getAllServiceRequests(municipality);
-      setRequests(data);
+      // Keep rows a delta already brought further than this listing
+      setRequests((current) => data.map((row) => {
+        const known = current.find((r) => r.id === row.id);
+        return known && isNewer(known, row) ? known : row;
+      }));
     } catch (err) {
       console.error('Error loading requests:', err);
       const errorMessage = err.apiError?.message || 'Failed to load requests. Please try again.';
@@ -57,16 +71,52 @@ const StaffDashboard = () => {
     }
   };
 
-  const calculateStats = () => {
-    const newStats = {
-      total: requests.length,
-      received: requests.filter((r) => r.status === 'RECEIVED').length,
-      assigned: requests.filter((r) => r.status === 'ASSIGNED').length,
-      inProgress: requests.filter((r) => r.status === 'IN_PROGRESS').length,
-      completed: requests.filter((r) => r.status === 'COMPLETED').length,
-      cancelled: requests.filter((r) => r.status === 'CANCELLED').length,
-    };
-    setStats(newStats);
+  // Versions grow with every change; rows without one are always replaced
+  const isNewer = (a, b) => a.version != null && b.version != null && a.version > b.version;
+
+  // One refresh for every delta of a burst, including those arriving while it is pending
+  const scheduleStatsRefresh = () => {
+    if (statsRefresh.current) {
+      return;
+    }
+    statsRefresh.current = setTimeout(() => {
+      statsRefresh.current = null;
+      loadStats(municipalityFilter.current);
+    }, STATS_REFRESH_DELAY_MS);
+  };
+
+  const applyDelta = (delta) => {
+    scheduleStatsRefresh();
+    setRequests((current) => {
+      if (delta.type === 'CREATED') {
+        const filter = municipalityFilter.current;
+        if ((filter && delta.municipalityName !== filter) || current.some((r) => r.id === delta.requestId)) {
+          return current;
+        }
+        return [delta.request, ...current];
+      }
+      return current.map((r) => (r.id === delta.requestId && !isNewer(r, delta)
+        ? { ...r, status: delta.status, version: delta.version, updatedAt: delta.updatedAt }
+        : r));
+    });
+  };
+
+  // Counts come from the server-side counters, so they do not depend on the rows loaded here
+  const loadStats = async (municipality = null) => {
+    try {
+      const summaries = await getStatusSummary(municipality);
+      const count = (status) => summaries.reduce((sum, s) => sum + (s.counts[status] || 0), 0);
+      setStats({
+        total: summaries.reduce((sum, s) => sum + s.total, 0),
+        received: count('RECEIVED'),
+        assigned: count('ASSIGNED'),
+        inProgress: count('IN_PROGRESS'),
+        completed: count('COMPLETED'),
+        cancelled: count('CANCELLED'),
+      });
+    } catch (err) {
+      console.error('Error loading status counts:', err);
+    }
   };
 
   const handleMunicipalityFilter = (e) => {
@@ -81,9 +131,9 @@ const StaffDashboard = () => {
   };
 
   const handleStatusUpdated = () => {
+    // The change arrives as a delta on the event stream, no need to reload the list
     setShowModal(false);
     setSelectedRequest(null);
-    loadRequests(selectedMunicipality || null);
   };
 
   const filteredRequests = statusFilter
@@ -57,6 +57,7 @@ const UpdateStatusModal = ({ request, onClose, onStatusUpdated }) => {
       await updateServiceRequestStatus(request.id, {
         newStatus,
         notes: notes || undefined,
+        version: request.version ?? undefined,
       });
       onStatusUpdated();
     } catch (err) {
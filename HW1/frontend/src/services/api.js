@@ -1,6 +1,6 @@
 import axios from 'axios';
 
-const API_BASE_URL = 'http://localhost:8080/api';
+export const API_BASE_URL = 'http://localhost:8080/api';
 
 const api = axios.create({
   baseURL: API_BASE_URL,
@@ -54,6 +54,14 @@ export const getMunicipalities = async () => {
   return response.data;
 };
 
+// Remaining capacity per date and time slot, starting tomorrow
+export const getAvailability = async (municipalityName, days = 30) => {
+  const response = await api.get(`/municipalities/${encodeURIComponent(municipalityName)}/availability`, {
+    params: { days },
+  });
+  return response.data;
+};
+
 // Citizen endpoints
 export const createServiceRequest = async (requestData) => {
   const response = await api.post('/requests', requestData);
@@ -70,5 +78,13 @@ export const cancelServiceRequest = async (token) => {
   return response.data;
 };
 
+// Opens a Server-Sent Events stream that calls onStatus with every status change of the request.
+// Returns the EventSource so the caller can close it.
+export const subscribeToRequestStatus = (token, onStatus) => {
+  const source = new EventSource(`${API_BASE_URL}/requests/${token}/events`);
+  source.addEventListener('status', (event) => onStatus(JSON.parse(event.data)));
+  return source;
+};
+
 export default api;
 
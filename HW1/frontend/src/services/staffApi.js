@@ -1,4 +1,4 @@
-import api from './api';
+import api, { API_BASE_URL } from './api';
 
 // Staff endpoints
 export const getAllServiceRequests = async (municipality = null) => {
@@ -7,13 +7,32 @@ export const getAllServiceRequests = async (municipality = null) => {
   return response.data;
 };
 
+// Request counts per municipality and status; pass a municipality to get only its counts
+export const getStatusSummary = async (municipality = null) => {
+  const params = municipality ? { municipality } : {};
+  const response = await api.get('/staff/requests/summary', { params });
+  return response.data;
+};
+
 export const updateServiceRequestStatus = async (id, statusData) => {
   const response = await api.put(`/staff/requests/${id}/status`, statusData);
   return response.data;
 };
 
+// Opens the stream of request creations, transitions and cancellations. The browser resumes
+// from the last received delta after a reconnect; onReset is called when that is no longer
+// possible and the list must be reloaded. Returns the EventSource so the caller can close it.
+export const subscribeToRequestChanges = (onDelta, onReset) => {
+  const source = new EventSource(`${API_BASE_URL}/staff/requests/events`);
+  source.addEventListener('delta', (event) => onDelta(JSON.parse(event.data)));
+  source.addEventListener('reset', () => onReset());
+  return source;
+};
+
 export default {
   getAllServiceRequests,
+  getStatusSummary,
   updateServiceRequestStatus,
+  subscribeToRequestChanges,
 };
 